@@ -0,0 +1,94 @@
+package com.mysite.customers.controller;
+
+import com.mysite.customers.CustomersApplication;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.middleware.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the controller -> service -> repository call chain against the in-memory H2 database,
+ * calling the controller directly (no HTTP, no MockMvc).
+ * The application context is started once per fork, without the web server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomerEndpointBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private CustomerController customerController;
+    private GlobalExceptionHandler exceptionHandler;
+    private CustomerDto customer;
+    private CustomerDataDto[] updatedCustomerData;
+    private CustomerPatchDto[] customerPatches;
+    private int updateCount;
+    private CustomerDataDto invalidCustomerData;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(CustomersApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN")
+                .run();
+
+        customerController = context.getBean(CustomerController.class);
+        exceptionHandler = context.getBean(GlobalExceptionHandler.class);
+
+        customer = customerController.createCustomer(new CustomerDataDto("John", "Doe", "johndoe@example.com"));
+        // alternate between two values, so every update really changes the row (and is not skipped by dirty checking)
+        updatedCustomerData = new CustomerDataDto[] {
+                new CustomerDataDto("John", "Doe", "janedoe@example.com"),
+                new CustomerDataDto("John", "Doe", "johndoe@example.com") };
+        customerPatches = new CustomerPatchDto[] {
+                new CustomerPatchDto(null, null, "janedoe@example.com"),
+                new CustomerPatchDto(null, null, "johndoe@example.com") };
+        invalidCustomerData = new CustomerDataDto("John", "", "johndoe@example");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object getCustomer() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        return customerController.getCustomer(customer.id(), new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/customers/" + customer.id()), response), response);
+    }
+
+    /*
+     * PUT and PATCH change the same single property, reported both as throughput and as latency percentiles.
+     */
+    @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+    public Object updateCustomer() throws Exception {
+        return customerController.updateCustomer(customer.id(), updatedCustomerData[updateCount++ & 1], null);
+    }
+
+    @Benchmark
+    @BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+    public Object patchCustomer() throws Exception {
+        return customerController.patchCustomer(customer.id(), customerPatches[updateCount++ & 1], null);
+    }
+
+    @Benchmark
+    public Object createInvalidCustomer() throws Exception {
+        try {
+            return customerController.createCustomer(invalidCustomerData);
+        } catch (ValidationException ex) {
+            return exceptionHandler.handleValidationException(ex, new ServletWebRequest(new MockHttpServletRequest("POST", "/v1/customers")));
+        }
+    }
+}
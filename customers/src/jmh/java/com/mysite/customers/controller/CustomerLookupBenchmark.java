@@ -0,0 +1,91 @@
+package com.mysite.customers.controller;
+
+import com.mysite.customers.CustomersApplication;
+import com.mysite.customers.config.CacheConfiguration;
+import com.mysite.customers.dto.CustomerDataDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving 500 customers with one multi-get call against 10 single-customer calls,
+ * with the read cache either warm or cleared before every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomerLookupBenchmark {
+
+    private static final int LOOKUP_SIZE = 500;
+    private static final int SINGLE_GET_COUNT = 10;
+
+    @Param({ "warm", "cold" })
+    public String cache;
+
+    private ConfigurableApplicationContext context;
+    private CustomerController customerController;
+    private Cache customersCache;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(CustomersApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN")
+                .run();
+
+        customerController = context.getBean(CustomerController.class);
+        customersCache = context.getBean(CacheManager.class).getCache(CacheConfiguration.CUSTOMERS_CACHE);
+
+        var newCustomers = new ArrayList<CustomerDataDto>(LOOKUP_SIZE);
+
+        for (int i = 0; i < LOOKUP_SIZE; i++) {
+            newCustomers.add(new CustomerDataDto("John", "Doe", "johndoe@example.com"));
+        }
+
+        ids = customerController.createCustomers(newCustomers).results().stream()
+                .map(result -> result.customer().id())
+                .toList();
+
+        customerController.getCustomersByIds(ids);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        if (cache.equals("cold")) customersCache.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object getCustomersByIds() throws Exception {
+        return customerController.getCustomersByIds(ids);
+    }
+
+    @Benchmark
+    public Object getCustomerTenTimes() throws Exception {
+        Object customer = null;
+
+        for (int i = 0; i < SINGLE_GET_COUNT; i++) {
+            var id = ids.get(i);
+            var response = new MockHttpServletResponse();
+
+            customer = customerController.getCustomer(id, new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/customers/" + id), response), response);
+        }
+
+        return customer;
+    }
+}
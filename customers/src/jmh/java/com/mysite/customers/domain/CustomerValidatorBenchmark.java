@@ -0,0 +1,53 @@
+package com.mysite.customers.domain;
+
+import com.mysite.customers.exception.ValidationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link CustomerValidator#ensureValidity(String, String, String)} for valid data and for every invalid data shape.
+ * Lives in the domain package because the validator is only accessible from there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomerValidatorBenchmark {
+
+    @Param({"valid", "nullValues", "emptyValues", "tooLong", "invalidEmail"})
+    public String shape;
+
+    private String firstName;
+    private String lastName;
+    private String email;
+
+    @Setup
+    public void setUp() {
+        switch (shape) {
+            case "valid" -> setValues("John", "Doe", "johndoe@example.com");
+            case "nullValues" -> setValues(null, null, null);
+            case "emptyValues" -> setValues("", "", "");
+            case "tooLong" -> setValues("a".repeat(76), "a".repeat(51), "a".repeat(321));
+            case "invalidEmail" -> setValues("John", "Doe", "johndoe@example..com");
+            default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+    }
+
+    @Benchmark
+    public Object ensureValidity() {
+        try {
+            CustomerValidator.ensureValidity(firstName, lastName, email);
+
+            return List.of();
+        } catch (ValidationException ex) {
+            return ex.getErrors();
+        }
+    }
+
+    private void setValues(String firstName, String lastName, String email) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+    }
+}
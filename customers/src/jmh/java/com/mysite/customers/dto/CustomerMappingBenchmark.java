@@ -0,0 +1,53 @@
+package com.mysite.customers.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.customers.domain.Customer;
+import com.mysite.customers.domain.CustomerFactory;
+import com.mysite.customers.dto.mapper.CustomerMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks entity to DTO mapping and the JSON serialization round trip of customer DTOs.
+ * The object mapper is built the same way Spring Boot builds the one used by the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomerMappingBenchmark {
+
+    private Customer customer;
+    private CustomerDto customerDto;
+    private String customerDtoJson;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        customer = CustomerFactory.createCustomer("John", "Doe", "johndoe@example.com");
+        customerDto = new CustomerDto(1L, "John", "Doe", "johndoe@example.com", 0);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        customerDtoJson = objectMapper.writeValueAsString(customerDto);
+    }
+
+    @Benchmark
+    public CustomerDto toDto() {
+        return CustomerMapper.toDto(customer);
+    }
+
+    @Benchmark
+    public String serializeDto() throws Exception {
+        return objectMapper.writeValueAsString(customerDto);
+    }
+
+    @Benchmark
+    public CustomerDto deserializeDto() throws Exception {
+        return objectMapper.readValue(customerDtoJson, CustomerDto.class);
+    }
+
+    @Benchmark
+    public CustomerDto roundTripDto() throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(customerDto), CustomerDto.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.mysite.customers.middleware;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import com.mysite.customers.middleware.accesslog.AccessLogFilter;
+import com.mysite.customers.middleware.accesslog.AccessLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.CommonsRequestLoggingFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the request thread overhead of the request logging filters on a create customer request:
+ * the CommonsRequestLoggingFilter setup used before (payload caching, message formatted and logged on the request thread)
+ * against the AccessLogFilter (byte counting, entry queued for the background writer), with no filter as the baseline.
+ * Log events are not written anywhere, so only the work done by the filters themselves is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessLogFilterBenchmark {
+
+    private static final byte[] REQUEST_BODY = "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"johndoe@example.com\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESPONSE_BODY = "{\"id\":1,\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"johndoe@example.com\"}".getBytes(StandardCharsets.UTF_8);
+
+    private Filter commonsRequestLoggingFilter;
+    private Filter accessLogFilter;
+    private AccessLogWriter accessLogWriter;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        // Loggers are enabled, but have no appenders.
+        var loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+        loggerContext.getLogger(CommonsRequestLoggingFilter.class).setLevel(Level.DEBUG);
+        loggerContext.getLogger(AccessLogWriter.class).setLevel(Level.INFO);
+
+        var filter = new CommonsRequestLoggingFilter();
+        filter.setIncludeQueryString(true);
+        filter.setIncludePayload(true);
+        filter.setIncludeHeaders(false);
+        filter.setAfterMessagePrefix("REQUEST DATA: ");
+        commonsRequestLoggingFilter = filter;
+
+        accessLogWriter = new AccessLogWriter(10000, new SimpleMeterRegistry());
+        accessLogWriter.start();
+        accessLogFilter = new AccessLogFilter(accessLogWriter, 1.0, 1000);
+
+        filterChain = (request, response) -> {
+            StreamUtils.copyToByteArray(request.getInputStream());
+
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_CREATED);
+            response.getOutputStream().write(RESPONSE_BODY);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        accessLogWriter.stop();
+    }
+
+    @Benchmark
+    public Object noFilter() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        filterChain.doFilter(createRequest(), response);
+
+        return response;
+    }
+
+    @Benchmark
+    public Object commonsRequestLoggingFilter() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        commonsRequestLoggingFilter.doFilter(createRequest(), response, filterChain);
+
+        return response;
+    }
+
+    @Benchmark
+    public Object accessLogFilter() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        accessLogFilter.doFilter(createRequest(), response, filterChain);
+
+        return response;
+    }
+
+    private static MockHttpServletRequest createRequest() {
+        var request = new MockHttpServletRequest("POST", "/v1/customers");
+
+        request.setContentType("application/json");
+        request.setContent(REQUEST_BODY);
+
+        return request;
+    }
+}
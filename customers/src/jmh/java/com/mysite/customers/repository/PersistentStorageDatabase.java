@@ -0,0 +1,56 @@
+package com.mysite.customers.repository;
+
+import com.mysite.customers.CustomersApplication;
+import com.mysite.customers.config.PersistentStorageConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Database files of the "persistent" profile for the storage benchmarks, one per customer count under build/storage-benchmark.
+ * A file is created (and filled) only once and reused by later runs, filling millions of customers takes minutes.
+ */
+public final class PersistentStorageDatabase {
+
+    private static final Path DIRECTORY = Path.of("build", "storage-benchmark");
+    private static final int INSERT_CHUNK_SIZE = 100_000;
+
+    private PersistentStorageDatabase() { }
+
+    /**
+     * @return database path to use as "customers.storage.path"
+     */
+    public static String prepare(int customerCount) {
+        var path = DIRECTORY.resolve("customers-" + customerCount).toAbsolutePath();
+
+        if (Files.exists(Path.of(path + ".mv.db"))) return path.toString();
+
+        /*
+         * Liquibase creates the schema on the first start, the rows are generated by H2 itself
+         * (SYSTEM_RANGE, one INSERT per chunk of rows), which is far faster than inserting them through the application.
+         * The sequence is moved past the generated IDs, Hibernate takes the IDs below every sequence value (pooled optimizer).
+         */
+        try (var context = new SpringApplicationBuilder(CustomersApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(PersistentStorageConfiguration.PROFILE)
+                .properties("logging.level.root=WARN")
+                .run("--customers.storage.path=" + path)) {
+            var jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            for (int from = 1; from <= customerCount; from += INSERT_CHUNK_SIZE) {
+                jdbcTemplate.update(
+                        "INSERT INTO customer (id, first_name, last_name, email, created_dtime, modified_dtime, version) " +
+                                "SELECT X, 'John', 'Doe', 'johndoe@example.com', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(?, ?)",
+                        from,
+                        Math.min(from + INSERT_CHUNK_SIZE - 1, customerCount));
+            }
+
+            jdbcTemplate.execute("ALTER SEQUENCE customer_seq RESTART WITH " + (customerCount + 100));
+        }
+
+        return path.toString();
+    }
+}
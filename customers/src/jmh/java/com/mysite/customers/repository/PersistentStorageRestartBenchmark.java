@@ -0,0 +1,49 @@
+package com.mysite.customers.repository;
+
+import com.mysite.customers.CustomersApplication;
+import com.mysite.customers.config.PersistentStorageConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from starting the application until it is ready (web server on a random port, Liquibase checked,
+ * customer name index loaded) with customerCount customers in the file-backed H2 database ("persistent" profile).
+ * Each invocation is one restart, the close (including the file compaction on close) is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PersistentStorageRestartBenchmark {
+
+    @Param({ "5000000" })
+    public int customerCount;
+
+    private String path;
+    private ConfigurableApplicationContext context;
+
+    @Setup
+    public void setUp() {
+        path = PersistentStorageDatabase.prepare(customerCount);
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() {
+        if (context != null) context.close();
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext startUntilReady() {
+        context = new SpringApplicationBuilder(CustomersApplication.class)
+                .profiles(PersistentStorageConfiguration.PROFILE)
+                .properties("logging.level.root=WARN", "server.port=0")
+                .run("--customers.storage.path=" + path);
+
+        return context;
+    }
+}
@@ -0,0 +1,87 @@
+package com.mysite.customers.repository;
+
+import com.mysite.customers.CustomersApplication;
+import com.mysite.customers.config.PersistentStorageConfiguration;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.service.ICustomerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sustained write throughput of the file-backed H2 database ("persistent" profile) holding customerCount customers,
+ * with every commit written before it returns (writeDelayMs = 0, the default) and with commits written in batches (the opt-in 500 ms).
+ * The application context is started once per trial, without the web server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PersistentStorageWriteBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 100;
+
+    @Param({ "5000000" })
+    public int customerCount;
+
+    @Param({ "0", "500" })
+    public int writeDelayMs;
+
+    private ConfigurableApplicationContext context;
+    private ICustomerService customerService;
+    private List<CustomerDataDto> newCustomers;
+    private CustomerDataDto[] updatedCustomerData;
+    private SplittableRandom random;
+    private int updateCount;
+
+    @Setup
+    public void setUp() {
+        var path = PersistentStorageDatabase.prepare(customerCount);
+
+        context = new SpringApplicationBuilder(CustomersApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(PersistentStorageConfiguration.PROFILE)
+                .properties("logging.level.root=WARN")
+                .run("--customers.storage.path=" + path, "--customers.storage.write-delay-ms=" + writeDelayMs);
+
+        customerService = context.getBean(ICustomerService.class);
+        newCustomers = new ArrayList<>(INSERT_BATCH_SIZE);
+
+        for (int i = 0; i < INSERT_BATCH_SIZE; i++) {
+            newCustomers.add(new CustomerDataDto("John", "Doe", "johndoe@example.com"));
+        }
+
+        // alternate between two values, so every update really changes the row (and is not skipped by dirty checking)
+        updatedCustomerData = new CustomerDataDto[] {
+                new CustomerDataDto("John", "Doe", "janedoe@example.com"),
+                new CustomerDataDto("John", "Doe", "johndoe@example.com") };
+        random = new SplittableRandom(42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * One transaction inserting INSERT_BATCH_SIZE customers (JDBC batches), the score times 100 is customers per second.
+     */
+    @Benchmark
+    public Object insertBatch() {
+        return customerService.createBatch(newCustomers);
+    }
+
+    /**
+     * One transaction updating a random one of the seeded customers, mostly not in any cache.
+     */
+    @Benchmark
+    public Object update() throws Exception {
+        return customerService.update(random.nextInt(1, customerCount + 1), updatedCustomerData[updateCount++ & 1], null);
+    }
+}
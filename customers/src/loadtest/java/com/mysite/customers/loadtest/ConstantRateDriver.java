@@ -0,0 +1,87 @@
+package com.mysite.customers.loadtest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/*
+ * Open workload model: requests are started at a constant arrival rate, whether or not the earlier ones have completed,
+ * the way independent clients would send them. A closed model (a fixed number of clients sending their next request
+ * after the previous response) slows down together with the server and hides exactly the latencies we want to see.
+ *
+ * Every request runs on its own virtual thread, the in-flight limit only protects the load generator:
+ * when it is reached the schedule falls behind, and the delay still counts into the response time of the late requests.
+ */
+public class ConstantRateDriver {
+    private final CustomerWorkload workload;
+    private final RandomGenerator random;
+    private final double rate;
+    private final int maxInFlight;
+
+    public ConstantRateDriver(CustomerWorkload workload, RandomGenerator random, double rate, int maxInFlight) {
+        this.workload = workload;
+        this.random = random;
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public record PhaseResult(Map<Operation, OperationStats> stats, long sentCount, Duration elapsed) { }
+
+    /*
+     * Waits for the requests still in flight at the end, so the next phase starts without them.
+     */
+    public PhaseResult run(Duration duration) throws IOException {
+        var stats = new EnumMap<Operation, OperationStats>(Operation.class);
+
+        for (var operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+
+        var inFlight = new Semaphore(maxInFlight);
+        var intervalNanos = 1_000_000_000d / rate;
+        var requestCount = (long) (duration.toNanos() / intervalNanos);
+        var startTime = System.nanoTime();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requestCount; i++) {
+                var intendedStartTime = startTime + (long) (i * intervalNanos);
+
+                waitUntil(intendedStartTime);
+                inFlight.acquireUninterruptibly();
+
+                var request = workload.plan(random);
+                var operationStats = stats.get(request.operation());
+
+                executor.execute(() -> {
+                    var sendTime = System.nanoTime();
+
+                    try {
+                        var status = workload.send(request);
+                        var endTime = System.nanoTime();
+
+                        operationStats.record(String.valueOf(status), status >= 400, endTime - intendedStartTime, endTime - sendTime);
+                    } catch (IOException | InterruptedException ex) {
+                        var endTime = System.nanoTime();
+
+                        operationStats.record(OperationStats.EXCEPTION_OUTCOME, true, endTime - intendedStartTime, endTime - sendTime);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        return new PhaseResult(stats, requestCount, Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    private static void waitUntil(long nanoTime) {
+        for (var remaining = nanoTime - System.nanoTime(); remaining > 0; remaining = nanoTime - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
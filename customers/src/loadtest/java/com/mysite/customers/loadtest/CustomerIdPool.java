@@ -0,0 +1,40 @@
+package com.mysite.customers.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/*
+ * IDs of the customers that exist (as far as the workload knows), to pick the targets of GET / PUT / DELETE from.
+ * A customer is taken out before it is deleted, so later requests do not target it.
+ */
+public class CustomerIdPool {
+    private final List<Long> ids = new ArrayList<>();
+
+    public synchronized void add(long id) {
+        ids.add(id);
+    }
+
+    public synchronized Long pick(RandomGenerator random) {
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+
+    /*
+     * Swaps the picked ID with the last one, so removing it does not shift the list.
+     */
+    public synchronized Long take(RandomGenerator random) {
+        if (ids.isEmpty()) return null;
+
+        var index = random.nextInt(ids.size());
+        var id = ids.get(index);
+
+        ids.set(index, ids.get(ids.size() - 1));
+        ids.remove(ids.size() - 1);
+
+        return id;
+    }
+
+    public synchronized int size() {
+        return ids.size();
+    }
+}
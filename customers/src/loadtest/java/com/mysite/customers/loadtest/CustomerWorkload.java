@@ -0,0 +1,151 @@
+package com.mysite.customers.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.customers.dto.CustomerDataDto;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/*
+ * Requests of the mixed workload against /v1/customers, and the customer IDs they target.
+ * Requests are planned on the scheduling thread (so the sequence of operations only depends on the random seed)
+ * and sent on the request threads.
+ */
+public class CustomerWorkload {
+    private static final String CUSTOMERS_PATH = "/v1/customers";
+    private static final int SEED_BATCH_SIZE = 500;
+    private static final char[] NAME_LETTERS = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final CustomerIdPool idPool = new CustomerIdPool();
+
+    public CustomerWorkload(HttpClient httpClient, ObjectMapper objectMapper, URI baseUri, Duration requestTimeout, Map<Operation, Integer> mix) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+
+        var totalWeight = 0;
+
+        for (int i = 0; i < operations.length; i++) {
+            totalWeight += mix.get(operations[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+    }
+
+    public record PlannedRequest(Operation operation, HttpRequest httpRequest) { }
+
+    /*
+     * Creates the initial customers through the batch endpoint, before anything is measured.
+     */
+    public void seed(int customerCount, RandomGenerator random) throws IOException, InterruptedException {
+        for (int created = 0; created < customerCount; created += SEED_BATCH_SIZE) {
+            var batch = new ArrayList<CustomerDataDto>(SEED_BATCH_SIZE);
+
+            for (int i = created; i < Math.min(created + SEED_BATCH_SIZE, customerCount); i++) {
+                batch.add(newCustomerData(random));
+            }
+
+            var response = httpClient.send(
+                    jsonRequest(CUSTOMERS_PATH + "/batch").POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch))).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+
+            if (response.statusCode() != 200 && response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding customers failed with status " + response.statusCode());
+            }
+
+            for (var result : objectMapper.readTree(response.body()).get("results")) {
+                idPool.add(result.get("customer").get("id").asLong());
+            }
+        }
+    }
+
+    /*
+     * Without any known customer left, GET / PUT / DELETE fall back to POST.
+     */
+    public PlannedRequest plan(RandomGenerator random) throws IOException {
+        var operation = nextOperation(random);
+
+        if (operation != Operation.POST) {
+            var id = operation == Operation.DELETE ? idPool.take(random) : idPool.pick(random);
+
+            if (id != null) {
+                var path = CUSTOMERS_PATH + "/" + id;
+
+                return switch (operation) {
+                    case GET -> new PlannedRequest(operation, request(path).GET().build());
+                    case PUT -> new PlannedRequest(operation, jsonRequest(path).PUT(jsonBody(newCustomerData(random))).build());
+                    default -> new PlannedRequest(operation, request(path).DELETE().build());
+                };
+            }
+        }
+
+        return new PlannedRequest(Operation.POST, jsonRequest(CUSTOMERS_PATH).POST(jsonBody(newCustomerData(random))).build());
+    }
+
+    /*
+     * Returns the response status, a created customer becomes a target of the following requests.
+     */
+    public int send(PlannedRequest request) throws IOException, InterruptedException {
+        var response = httpClient.send(request.httpRequest(), HttpResponse.BodyHandlers.ofByteArray());
+
+        if (request.operation() == Operation.POST && response.statusCode() == 201) {
+            idPool.add(objectMapper.readTree(response.body()).get("id").asLong());
+        }
+
+        return response.statusCode();
+    }
+
+    public int getKnownCustomerCount() {
+        return idPool.size();
+    }
+
+    private Operation nextOperation(RandomGenerator random) {
+        var value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) return operations[i];
+        }
+
+        return operations[operations.length - 1];
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(requestTimeout);
+    }
+
+    private HttpRequest.Builder jsonRequest(String path) {
+        return request(path).header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    /*
+     * Valid customer data, the random e-mail local part keeps the e-mail index from degenerating into one key.
+     */
+    private static CustomerDataDto newCustomerData(RandomGenerator random) {
+        var localPart = new char[10];
+
+        for (int i = 0; i < localPart.length; i++) {
+            localPart[i] = NAME_LETTERS[random.nextInt(NAME_LETTERS.length)];
+        }
+
+        return new CustomerDataDto("Load", "Test", new String(localPart) + "@example.com");
+    }
+}
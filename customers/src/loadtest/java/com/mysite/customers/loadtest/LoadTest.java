@@ -0,0 +1,73 @@
+package com.mysite.customers.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.customers.CustomersApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Load test of the customer API, run with: ./gradlew loadTest [-Ploadtest.rate=500 -Ploadtest.duration=60s ...]
+ * (see LoadTestSettings for all parameters).
+ * <p>
+ * Boots the application on a random port with its regular configuration (in-memory H2), seeds customers, runs a warm-up
+ * phase and then the measured phase of the same constant-rate workload, and writes the reports to build/reports/loadtest.
+ * <p>
+ * To compare branches, run it on the baseline branch, copy build/reports/loadtest/report.json out of the build directory,
+ * and run it on the other branch with -Ploadtest.baseline=path/to/report.json -Ploadtest.label=branch-name,
+ * with the same settings and on the same machine. The load generator shares the JVM (and the CPUs) with the application,
+ * so only the relative differences between runs are meaningful.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        var settings = LoadTestSettings.fromSystemProperties();
+        var objectMapper = new ObjectMapper();
+        var reportWriter = new LoadTestReportWriter(objectMapper);
+        var baseline = settings.baseline() == null ? null : reportWriter.readBaseline(settings.baseline());
+
+        try (var context = new SpringApplicationBuilder(CustomersApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run(args)) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var random = new SplittableRandom(settings.randomSeed());
+
+            try (var httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(settings.requestTimeout()).build()) {
+                var workload = new CustomerWorkload(httpClient, objectMapper, URI.create("http://localhost:" + port), settings.requestTimeout(), settings.mix());
+                var driver = new ConstantRateDriver(workload, random, settings.rate(), settings.maxInFlight());
+
+                log("Seeding %d customers.", settings.seedCustomers());
+                workload.seed(settings.seedCustomers(), random);
+
+                log("Warm-up: %s at %.1f requests/s.", settings.warmup(), settings.rate());
+                driver.run(settings.warmup());
+
+                var startedAt = Instant.now().toString();
+
+                log("Measuring: %s at %.1f requests/s.", settings.duration(), settings.rate());
+                var result = driver.run(settings.duration());
+                var report = LoadTestReport.of(settings.label(), startedAt, settings, result);
+
+                reportWriter.write(settings.outputDir(), report, baseline, result);
+
+                for (var operation : report.operations()) {
+                    log("%-6s count %7d, errors %5d, response time p50 %8.3f ms, p99 %8.3f ms, p99.9 %8.3f ms, max %8.3f ms",
+                            operation.operation(), operation.count(), operation.errors(),
+                            operation.responseTime().p50(), operation.responseTime().p99(), operation.responseTime().p999(), operation.responseTime().max());
+                }
+
+                log("Achieved %.1f of %.1f requests/s, %d customers known at the end. Reports: %s",
+                        report.achievedRate(), report.targetRate(), workload.getKnownCustomerCount(), settings.outputDir().toAbsolutePath());
+            }
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println(String.format(Locale.ROOT, format, args));
+    }
+}
@@ -0,0 +1,120 @@
+package com.mysite.customers.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Result of the measured phase, written as report.json (and read back as the baseline of a later run).
+ * Latencies are in milliseconds.
+ */
+public record LoadTestReport(
+        String label,
+        String startedAt,
+        Map<String, String> settings,
+        double targetRate,
+        double achievedRate,
+        List<OperationReport> operations) {
+
+    public static final String ALL_OPERATIONS = "ALL";
+
+    public record OperationReport(
+            String operation,
+            long count,
+            long errors,
+            Map<String, Long> outcomes,
+            double throughput,
+            LatencyReport responseTime,
+            LatencyReport serviceTime) { }
+
+    public record LatencyReport(
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max,
+            double mean) {
+
+        static LatencyReport of(Histogram histogram) {
+            return new LatencyReport(
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(90)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue()),
+                    toMillis(histogram.getMean()));
+        }
+
+        private static double toMillis(double micros) {
+            return Math.round(micros) / 1000d;
+        }
+    }
+
+    /*
+     * One report per operation that was sent, plus the combined latencies of all of them.
+     */
+    public static LoadTestReport of(String label, String startedAt, LoadTestSettings settings, ConstantRateDriver.PhaseResult result) {
+        var elapsedSeconds = result.elapsed().toNanos() / 1_000_000_000d;
+        var operations = new ArrayList<OperationReport>();
+        var allResponseTimes = new Histogram(3);
+        var allServiceTimes = new Histogram(3);
+        var allOutcomes = new LinkedHashMap<String, Long>();
+        var allCount = 0L;
+        var allErrors = 0L;
+
+        for (var entry : result.stats().entrySet()) {
+            var stats = entry.getValue();
+
+            if (stats.getCount() == 0) continue;
+
+            operations.add(new OperationReport(
+                    entry.getKey().name(),
+                    stats.getCount(),
+                    stats.getErrors(),
+                    stats.getOutcomes(),
+                    stats.getCount() / elapsedSeconds,
+                    LatencyReport.of(stats.getResponseTime()),
+                    LatencyReport.of(stats.getServiceTime())));
+
+            allResponseTimes.add(stats.getResponseTime());
+            allServiceTimes.add(stats.getServiceTime());
+            stats.getOutcomes().forEach((outcome, count) -> allOutcomes.merge(outcome, count, Long::sum));
+            allCount += stats.getCount();
+            allErrors += stats.getErrors();
+        }
+
+        operations.add(new OperationReport(
+                ALL_OPERATIONS,
+                allCount,
+                allErrors,
+                allOutcomes,
+                allCount / elapsedSeconds,
+                LatencyReport.of(allResponseTimes),
+                LatencyReport.of(allServiceTimes)));
+
+        var settingsMap = new LinkedHashMap<String, String>();
+
+        settingsMap.put("seedCustomers", String.valueOf(settings.seedCustomers()));
+        settingsMap.put("rate", String.valueOf(settings.rate()));
+        settingsMap.put("warmup", settings.warmup().toString());
+        settingsMap.put("duration", settings.duration().toString());
+        settingsMap.put("mix", settings.mix().toString());
+        settingsMap.put("maxInFlight", String.valueOf(settings.maxInFlight()));
+        settingsMap.put("requestTimeout", settings.requestTimeout().toString());
+        settingsMap.put("randomSeed", String.valueOf(settings.randomSeed()));
+        settingsMap.put("availableProcessors", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        settingsMap.put("javaVersion", Runtime.version().toString());
+
+        return new LoadTestReport(label, startedAt, settingsMap, settings.rate(), allCount / elapsedSeconds, operations);
+    }
+
+    public OperationReport getOperation(String operation) {
+        return operations.stream()
+                .filter(operationReport -> operationReport.operation().equals(operation))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,142 @@
+package com.mysite.customers.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/*
+ * Writes report.json, report.html (compared with the baseline report, if given) and one HdrHistogram percentile distribution
+ * (<operation>.hgrm) per operation, which can be plotted with the HdrHistogram plotter to compare the whole latency curves.
+ */
+public class LoadTestReportWriter {
+    public static final String JSON_REPORT_FILE = "report.json";
+    public static final String HTML_REPORT_FILE = "report.html";
+
+    private static final List<Map.Entry<String, ToDoubleFunction<LoadTestReport.LatencyReport>>> PERCENTILES = List.of(
+            Map.entry("p50", LoadTestReport.LatencyReport::p50),
+            Map.entry("p90", LoadTestReport.LatencyReport::p90),
+            Map.entry("p99", LoadTestReport.LatencyReport::p99),
+            Map.entry("p99.9", LoadTestReport.LatencyReport::p999),
+            Map.entry("max", LoadTestReport.LatencyReport::max));
+
+    private final ObjectMapper objectMapper;
+
+    public LoadTestReportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public LoadTestReport readBaseline(Path baseline) throws IOException {
+        return objectMapper.readValue(baseline.toFile(), LoadTestReport.class);
+    }
+
+    public void write(Path outputDir, LoadTestReport report, LoadTestReport baseline, ConstantRateDriver.PhaseResult result) throws IOException {
+        Files.createDirectories(outputDir);
+
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(outputDir.resolve(JSON_REPORT_FILE).toFile(), report);
+        Files.writeString(outputDir.resolve(HTML_REPORT_FILE), toHtml(report, baseline), StandardCharsets.UTF_8);
+
+        for (var entry : result.stats().entrySet()) {
+            if (entry.getValue().getCount() == 0) continue;
+
+            var hgrmFile = outputDir.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+
+            try (var out = new PrintStream(Files.newOutputStream(hgrmFile), false, StandardCharsets.UTF_8)) {
+                entry.getValue().getResponseTime().outputPercentileDistribution(out, 1000d);
+            }
+        }
+    }
+
+    /*
+     * Response times (corrected for coordinated omission) are the ones to compare, service times are shown for reference.
+     */
+    private static String toHtml(LoadTestReport report, LoadTestReport baseline) {
+        var html = new StringBuilder();
+
+        html.append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Load test: ").append(escape(report.label())).append("</title>\n")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse;margin-bottom:1.5em}")
+                .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}th:first-child,td:first-child{text-align:left}")
+                .append(".worse{color:#b00}.better{color:#070}</style></head><body>\n");
+        html.append("<h1>Load test: ").append(escape(report.label())).append("</h1>\n");
+        html.append("<p>Started at ").append(escape(report.startedAt()))
+                .append(String.format(Locale.ROOT, ", target rate %.1f/s, achieved rate %.1f/s.", report.targetRate(), report.achievedRate()))
+                .append("</p>\n");
+
+        html.append("<h2>Settings</h2>\n<table>\n");
+        report.settings().forEach((name, value) -> html.append("<tr><td>").append(escape(name)).append("</td><td>").append(escape(value)).append("</td></tr>\n"));
+        html.append("</table>\n");
+
+        html.append("<h2>Response time (ms, from the scheduled start)</h2>\n");
+        appendLatencyTable(html, report, baseline, true);
+        html.append("<h2>Service time (ms, from the actual send)</h2>\n");
+        appendLatencyTable(html, report, baseline, false);
+
+        html.append("<h2>Outcomes</h2>\n<table>\n<tr><th>Operation</th><th>Count</th><th>Throughput (/s)</th><th>Errors</th><th>Status codes</th></tr>\n");
+
+        for (var operation : report.operations()) {
+            html.append("<tr><td>").append(operation.operation()).append("</td><td>").append(operation.count())
+                    .append(String.format(Locale.ROOT, "</td><td>%.1f</td><td>", operation.throughput()))
+                    .append(operation.errors()).append("</td><td>").append(escape(operation.outcomes().toString())).append("</td></tr>\n");
+        }
+
+        html.append("</table>\n</body></html>\n");
+
+        return html.toString();
+    }
+
+    private static void appendLatencyTable(StringBuilder html, LoadTestReport report, LoadTestReport baseline, boolean responseTime) {
+        html.append("<table>\n<tr><th>Operation</th>");
+
+        for (var percentile : PERCENTILES) {
+            if (baseline == null) {
+                html.append("<th>").append(percentile.getKey()).append("</th>");
+            } else {
+                html.append("<th>").append(percentile.getKey()).append(" ").append(escape(report.label())).append("</th>")
+                        .append("<th>").append(percentile.getKey()).append(" ").append(escape(baseline.label())).append("</th><th>change</th>");
+            }
+        }
+
+        html.append("</tr>\n");
+
+        for (var operation : report.operations()) {
+            var latency = responseTime ? operation.responseTime() : operation.serviceTime();
+            var baselineOperation = baseline == null ? null : baseline.getOperation(operation.operation());
+            var baselineLatency = baselineOperation == null ? null : (responseTime ? baselineOperation.responseTime() : baselineOperation.serviceTime());
+
+            html.append("<tr><td>").append(operation.operation()).append("</td>");
+
+            for (var percentile : PERCENTILES) {
+                var value = percentile.getValue().applyAsDouble(latency);
+
+                html.append(String.format(Locale.ROOT, "<td>%.3f</td>", value));
+
+                if (baseline == null) continue;
+
+                if (baselineLatency == null) {
+                    html.append("<td></td><td></td>");
+                } else {
+                    var baselineValue = percentile.getValue().applyAsDouble(baselineLatency);
+                    var change = baselineValue == 0 ? 0 : (value - baselineValue) / baselineValue * 100;
+
+                    html.append(String.format(Locale.ROOT, "<td>%.3f</td><td class=\"%s\">%+.1f%%</td>",
+                            baselineValue, change > 0 ? "worse" : "better", change));
+                }
+            }
+
+            html.append("</tr>\n");
+        }
+
+        html.append("</table>\n");
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,72 @@
+package com.mysite.customers.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * Load test parameters, read from "loadtest.*" system properties (the Gradle task passes the -Ploadtest.* project properties on).
+ */
+public record LoadTestSettings(
+        int seedCustomers,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int maxInFlight,
+        Duration requestTimeout,
+        long randomSeed,
+        String label,
+        Path baseline,
+        Path outputDir) {
+
+    public static final String PROPERTY_PREFIX = "loadtest.";
+
+    public static LoadTestSettings fromSystemProperties() {
+        var baseline = getProperty("baseline", "");
+
+        return new LoadTestSettings(
+                Integer.parseInt(getProperty("seedCustomers", "10000")),
+                Double.parseDouble(getProperty("rate", "200")),
+                Duration.parse("PT" + getProperty("warmup", "10s")),
+                Duration.parse("PT" + getProperty("duration", "30s")),
+                parseMix(getProperty("mix", "get=70,post=10,put=15,delete=5")),
+                Integer.parseInt(getProperty("maxInFlight", "1000")),
+                Duration.parse("PT" + getProperty("requestTimeout", "5s")),
+                Long.parseLong(getProperty("randomSeed", "42")),
+                getProperty("label", "current"),
+                baseline.isBlank() ? null : Path.of(baseline),
+                Path.of(getProperty("outputDir", "build/reports/loadtest")));
+    }
+
+    /*
+     * Relative weights, e.g. "get=70,post=10,put=15,delete=5", operations that are not listed are not sent.
+     */
+    private static Map<Operation, Integer> parseMix(String mix) {
+        var weights = new EnumMap<Operation, Integer>(Operation.class);
+
+        for (var entry : mix.split(",")) {
+            var parts = entry.split("=");
+
+            if (parts.length != 2) throw new IllegalArgumentException("Invalid workload mix entry: " + entry);
+
+            var weight = Integer.parseInt(parts[1].trim());
+
+            if (weight < 0) throw new IllegalArgumentException("Workload mix weight cannot be negative: " + entry);
+
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Workload mix must have at least one positive weight: " + mix);
+        }
+
+        return weights;
+    }
+
+    private static String getProperty(String name, String defaultValue) {
+        return System.getProperty(PROPERTY_PREFIX + name, defaultValue);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mysite.customers.loadtest;
+
+/*
+ * Customer API requests the load test workload is mixed from.
+ */
+public enum Operation {
+    GET,
+    POST,
+    PUT,
+    DELETE
+}
@@ -0,0 +1,57 @@
+package com.mysite.customers.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Latencies (microseconds) and outcomes of one operation, recorded concurrently by the request threads.
+ *
+ * Response time is measured from the moment the request was scheduled to be sent, not from when it actually was:
+ * a request that waits behind a slow one (for a free connection, a server thread, the in-flight limit) counts that wait,
+ * so the histogram is corrected for coordinated omission. Service time is measured from the actual send.
+ */
+public class OperationStats {
+    public static final String EXCEPTION_OUTCOME = "exception";
+
+    private final ConcurrentHistogram responseTime = new ConcurrentHistogram(3);
+    private final ConcurrentHistogram serviceTime = new ConcurrentHistogram(3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+
+    public void record(String outcome, boolean error, long responseTimeNanos, long serviceTimeNanos) {
+        responseTime.recordValue(Math.max(0, responseTimeNanos / 1000));
+        serviceTime.recordValue(Math.max(0, serviceTimeNanos / 1000));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+
+        if (error) errors.increment();
+    }
+
+    public Histogram getResponseTime() {
+        return responseTime;
+    }
+
+    public Histogram getServiceTime() {
+        return serviceTime;
+    }
+
+    public long getCount() {
+        return responseTime.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public Map<String, Long> getOutcomes() {
+        var counts = new TreeMap<String, Long>();
+
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+
+        return counts;
+    }
+}
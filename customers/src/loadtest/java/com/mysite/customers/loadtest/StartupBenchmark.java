@@ -0,0 +1,187 @@
+package com.mysite.customers.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark of the packaged application, run with: ./gradlew startupBenchmark [-Pstartup.runs=5]
+ * <p>
+ * Starts the extracted boot jar as a separate JVM process, plain, AOT-processed and AOT-processed with the class data sharing
+ * archive (see the startupBenchmark task in build.gradle), and measures the time from starting the process to the first
+ * successful GET /v1/customers/{id}. The database starts empty, so the customer is created by a POST as soon as the server
+ * accepts connections, the POST is part of the measured time. The variants take turns in every round, so a machine that
+ * slows down over time affects all of them alike. Every run's output is kept in build/reports/startup/&lt;variant&gt;-&lt;run&gt;.log.
+ * <p>
+ * Parameters ("startup.*" system properties, passed on from -Pstartup.* project properties):
+ * runs (default 5), variants (default PLAIN,AOT,AOT_CDS), timeout (default 180s),
+ * appArgs (application arguments separated by spaces, e.g. "--spring.profiles.active=persistent --customers.migration.mode=always",
+ * only profiles that AOT processing covers can be combined with the AOT variants).
+ */
+public class StartupBenchmark {
+    private static final String PROPERTY_PREFIX = "startup.";
+    private static final String JSON_REPORT_FILE = "report.json";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String CUSTOMER_JSON = "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"johndoe@example.com\"}";
+
+    public static void main(String[] args) throws Exception {
+        var java = getProperty("java", Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        var appJar = Path.of(getRequiredProperty("appJar"));
+        var cdsArchive = Path.of(getRequiredProperty("cdsArchive"));
+        var outputDir = Path.of(getProperty("outputDir", "build/reports/startup"));
+        var runs = Integer.parseInt(getProperty("runs", "5"));
+        var timeout = Duration.parse("PT" + getProperty("timeout", "180s"));
+        var appArgs = Arrays.stream(getProperty("appArgs", "").split(" ")).filter(arg -> !arg.isBlank()).toList();
+        var variants = Arrays.stream(getProperty("variants", "PLAIN,AOT,AOT_CDS").split(","))
+                .map(variant -> StartupVariant.valueOf(variant.trim().toUpperCase(Locale.ROOT)))
+                .toList();
+
+        if (variants.contains(StartupVariant.AOT_CDS) && !Files.exists(cdsArchive)) {
+            throw new IllegalStateException("Class data sharing archive not found, run the cdsArchive task first: " + cdsArchive);
+        }
+
+        Files.createDirectories(outputDir);
+
+        var startedAt = Instant.now().toString();
+        var times = new EnumMap<StartupVariant, List<Long>>(StartupVariant.class);
+
+        try (var httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(1)).build()) {
+            for (int run = 1; run <= runs; run++) {
+                for (var variant : variants) {
+                    var command = new ArrayList<String>();
+
+                    command.add(java);
+                    command.addAll(variant.jvmOptions(cdsArchive));
+                    command.addAll(List.of("-jar", appJar.toString()));
+                    command.addAll(appArgs);
+
+                    var log = outputDir.resolve(variant.name().toLowerCase(Locale.ROOT) + "-" + run + ".log");
+                    var time = measure(httpClient, command, appJar.getParent(), log, timeout);
+
+                    times.computeIfAbsent(variant, key -> new ArrayList<>()).add(time.toMillis());
+                    log("%-7s run %d: %6d ms", variant, run, time.toMillis());
+                }
+            }
+        }
+
+        var baselineMedian = StartupReport.median(times.get(variants.getFirst()));
+        var variantReports = times.entrySet().stream()
+                .map(entry -> StartupReport.variantReport(entry.getKey(), entry.getValue(), baselineMedian))
+                .toList();
+        var report = new StartupReport(startedAt, java, runs, variantReports);
+
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(outputDir.resolve(JSON_REPORT_FILE).toFile(), report);
+
+        for (var variant : variantReports) {
+            log("%-7s median %6d ms, min %6d ms, max %6d ms, speedup %.2fx",
+                    variant.variant(), variant.median(), variant.min(), variant.max(), variant.speedup());
+        }
+
+        log("Report: %s", outputDir.resolve(JSON_REPORT_FILE).toAbsolutePath());
+    }
+
+    /*
+     * Starts the application on a free port and returns the time until the first successful GET of a customer.
+     * The process is stopped again in any case.
+     */
+    private static Duration measure(HttpClient httpClient, List<String> command, Path workingDirectory, Path log, Duration timeout)
+            throws IOException, InterruptedException {
+        var baseUri = URI.create("http://localhost:" + findFreePort() + "/v1/customers");
+
+        command = new ArrayList<>(command);
+        command.addAll(List.of("--server.port=" + baseUri.getPort(), "--spring.main.banner-mode=off"));
+
+        var startedAt = System.nanoTime();
+        var process = new ProcessBuilder(command)
+                .directory(workingDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        try {
+            var deadline = startedAt + timeout.toNanos();
+            var customerUri = createCustomer(httpClient, baseUri, process, deadline, log);
+            var request = HttpRequest.newBuilder(customerUri).GET().build();
+
+            while (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                checkAlive(process, deadline, log);
+                Thread.sleep(POLL_INTERVAL);
+            }
+
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        } finally {
+            process.destroy();
+
+            if (!process.waitFor(30, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static URI createCustomer(HttpClient httpClient, URI baseUri, Process process, long deadline, Path log)
+            throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(baseUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CUSTOMER_JSON))
+                .build();
+
+        while (true) {
+            checkAlive(process, deadline, log);
+
+            try {
+                var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+                if (response.statusCode() == 201) {
+                    var id = OBJECT_MAPPER.readTree(response.body()).get("id").asLong();
+
+                    return URI.create(baseUri + "/" + id);
+                }
+            } catch (IOException ex) {
+                // The server is not listening yet, or closed the connection while still starting.
+            }
+
+            Thread.sleep(POLL_INTERVAL);
+        }
+    }
+
+    private static void checkAlive(Process process, long deadline, Path log) {
+        if (!process.isAlive()) throw new IllegalStateException("Application exited with code " + process.exitValue() + ", see " + log);
+        if (System.nanoTime() > deadline) throw new IllegalStateException("Application did not answer in time, see " + log);
+    }
+
+    private static int findFreePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String getRequiredProperty(String name) {
+        var value = System.getProperty(PROPERTY_PREFIX + name);
+
+        if (value == null) throw new IllegalArgumentException("Missing system property " + PROPERTY_PREFIX + name);
+
+        return value;
+    }
+
+    private static String getProperty(String name, String defaultValue) {
+        return System.getProperty(PROPERTY_PREFIX + name, defaultValue);
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println(String.format(Locale.ROOT, format, args));
+    }
+}
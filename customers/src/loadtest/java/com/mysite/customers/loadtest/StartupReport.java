@@ -0,0 +1,39 @@
+package com.mysite.customers.loadtest;
+
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Result of the startup benchmark, written as report.json. Times are in milliseconds, from starting the JVM process
+ * to the first successful GET /v1/customers/{id}.
+ */
+public record StartupReport(
+        String startedAt,
+        String java,
+        int runs,
+        List<VariantReport> variants) {
+
+    public record VariantReport(
+            String variant,
+            List<Long> times,
+            long median,
+            long min,
+            long max,
+            double speedup) { }
+
+    /*
+     * The speedup is relative to the median of the baseline variant (the first one, PLAIN unless it was left out).
+     */
+    static VariantReport variantReport(StartupVariant variant, List<Long> times, long baselineMedian) {
+        var median = median(times);
+
+        return new VariantReport(variant.name(), List.copyOf(times), median, Collections.min(times), Collections.max(times),
+                Math.round(100d * baselineMedian / median) / 100d);
+    }
+
+    static long median(List<Long> times) {
+        var sorted = times.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        return sorted.length % 2 == 1 ? sorted[sorted.length / 2] : (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2;
+    }
+}
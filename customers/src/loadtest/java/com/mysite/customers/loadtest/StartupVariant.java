@@ -0,0 +1,23 @@
+package com.mysite.customers.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Ways of starting the packaged application that the startup benchmark compares, all from the same extracted jar.
+ */
+public enum StartupVariant {
+    PLAIN,
+    AOT,
+    AOT_CDS;
+
+    public List<String> jvmOptions(Path cdsArchive) {
+        var options = new ArrayList<String>();
+
+        if (this == AOT_CDS) options.add("-XX:SharedArchiveFile=" + cdsArchive);
+        if (this != PLAIN) options.add("-Dspring.aot.enabled=true");
+
+        return options;
+    }
+}
@@ -1,12 +1,23 @@
 package com.mysite.customers;
 
+import com.mysite.customers.config.MigrationConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+import java.util.Arrays;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class CustomersApplication {
 
 	public static void main(String[] args) {
+		if (args.length > 0 && args[0].equals(MigrationConfiguration.MIGRATE_COMMAND)) {
+			MigrationConfiguration.migrate(CustomersApplication.class, Arrays.copyOfRange(args, 1, args.length));
+
+			return;
+		}
+
 		SpringApplication.run(CustomersApplication.class, args);
 	}
 
@@ -0,0 +1,26 @@
+package com.mysite.customers.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customers.access-log")
+public class AccessLogProperties {
+    /**
+     * Share of successful requests (status below 400) that are logged, between 0 and 1.
+     * Failed requests are always logged.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Number of entries waiting for the background writer, new entries are dropped when the queue is full.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Maximum number of request body bytes logged with failed requests, 0 disables payload capture.
+     */
+    private int maxPayloadLength = 1000;
+}
@@ -1,20 +1,27 @@
 package com.mysite.customers.config;
 
+import com.mysite.customers.middleware.accesslog.AccessLogFilter;
+import com.mysite.customers.middleware.accesslog.AccessLogWriter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.filter.CommonsRequestLoggingFilter;
+import org.springframework.context.annotation.Profile;
 
+/*
+ * Access log of the servlet stack (see AccessLogFilter), entries are written by a background thread (AccessLogWriter).
+ * Request bodies are not cached, so large requests like imports are logged too.
+ */
 @Configuration
+@Profile("!" + ReactiveConfiguration.PROFILE)
 public class ApiRequestLoggingConfiguration {
-    @Bean
-    public CommonsRequestLoggingFilter logFilter() {
-        var filter = new CommonsRequestLoggingFilter();
 
-        filter.setIncludeQueryString(true);
-        filter.setIncludePayload(true);
-        filter.setIncludeHeaders(false);
-        filter.setAfterMessagePrefix("REQUEST DATA: ");
+    @Bean
+    public AccessLogWriter accessLogWriter(AccessLogProperties accessLogProperties, MeterRegistry meterRegistry) {
+        return new AccessLogWriter(accessLogProperties.getQueueCapacity(), meterRegistry);
+    }
 
-        return filter;
+    @Bean
+    public AccessLogFilter accessLogFilter(AccessLogWriter accessLogWriter, AccessLogProperties accessLogProperties) {
+        return new AccessLogFilter(accessLogWriter, accessLogProperties.getSampleRate(), accessLogProperties.getMaxPayloadLength());
     }
 }
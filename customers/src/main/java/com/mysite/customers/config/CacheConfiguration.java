@@ -0,0 +1,24 @@
+package com.mysite.customers.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/*
+ * Caches are created by Spring Boot from the "spring.cache.*" properties (Caffeine, see application.properties).
+ *
+ * The caching advice is ordered before the transaction advice, so it wraps the transaction:
+ * cache evictions of @Transactional methods happen after the commit, and a concurrent read
+ * cannot put the old, not yet overwritten database state back into the cache.
+ *
+ * With virtual threads the cache stays synchronous: a @Cacheable(sync = true) miss holds a monitor while the loader runs,
+ * pinning the virtual thread for the duration of one query on the request's own connection.
+ * The asynchronous Caffeine cache (CaffeineCacheManager.setAsyncCacheMode) would avoid that, but it runs the loader
+ * on another thread, outside the request's open session, so under load every pooled connection was held by a request
+ * waiting for a loader that was itself waiting for a connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfiguration {
+    public static final String CUSTOMERS_CACHE = "customers";
+}
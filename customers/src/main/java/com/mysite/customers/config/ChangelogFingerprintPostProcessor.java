@@ -0,0 +1,69 @@
+package com.mysite.customers.config;
+
+import com.mysite.customers.repository.storage.ChangelogFingerprintRepository;
+import liquibase.integration.spring.SpringLiquibase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides, right before Liquibase would run, whether it runs at all.
+ * <p>
+ * In the SKIP_UNCHANGED mode Liquibase is switched off when the database records the fingerprint of the packaged changelog,
+ * so it neither parses the changelog files nor reads DATABASECHANGELOG. Every time Liquibase has run (in either mode)
+ * the packaged fingerprint is recorded. Without a packaged fingerprint (classes not built by Gradle) Liquibase always runs.
+ */
+public class ChangelogFingerprintPostProcessor implements BeanPostProcessor {
+
+    Logger logger = LoggerFactory.getLogger(ChangelogFingerprintPostProcessor.class);
+
+    private final MigrationProperties.Mode mode;
+    private final String fingerprint;
+    private final Map<String, Long> migrationStartTimes = new ConcurrentHashMap<>();
+
+    public ChangelogFingerprintPostProcessor(MigrationProperties.Mode mode, String fingerprint) {
+        this.mode = mode;
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (!(bean instanceof SpringLiquibase liquibase) || fingerprint == null) return bean;
+
+        var startTime = System.nanoTime();
+
+        if (mode == MigrationProperties.Mode.SKIP_UNCHANGED) {
+            var recordedFingerprint = new ChangelogFingerprintRepository(liquibase.getDataSource()).find();
+
+            if (recordedFingerprint.filter(fingerprint::equals).isPresent()) {
+                logger.info("Liquibase skipped after a {} ms fingerprint check, the database is at changelog fingerprint {}.", (System.nanoTime() - startTime) / 1_000_000, fingerprint);
+                liquibase.setShouldRun(false);
+
+                return bean;
+            }
+
+            logger.info("Database is at changelog fingerprint {}, the packaged changelog is {}, running Liquibase.",
+                    recordedFingerprint.orElse("(none)"), fingerprint);
+        }
+
+        migrationStartTimes.put(beanName, startTime);
+
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        var startTime = migrationStartTimes.remove(beanName);
+
+        if (bean instanceof SpringLiquibase liquibase && startTime != null) {
+            new ChangelogFingerprintRepository(liquibase.getDataSource()).record(fingerprint);
+
+            logger.info("Liquibase ran in {} ms, recorded changelog fingerprint {}.", (System.nanoTime() - startTime) / 1_000_000, fingerprint);
+        }
+
+        return bean;
+    }
+}
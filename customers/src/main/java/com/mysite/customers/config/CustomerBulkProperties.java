@@ -0,0 +1,20 @@
+package com.mysite.customers.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customers.bulk")
+public class CustomerBulkProperties {
+    /**
+     * Largest number of customer IDs a client is allowed to pass to a single bulk operation.
+     */
+    private int maxIds = 1000;
+
+    /**
+     * Largest number of IDs in a single IN list, longer ID lists are queried in chunks of this size.
+     */
+    private int queryChunkSize = 100;
+}
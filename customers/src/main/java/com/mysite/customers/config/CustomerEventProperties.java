@@ -0,0 +1,54 @@
+package com.mysite.customers.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customers.events")
+public class CustomerEventProperties {
+    /**
+     * Largest number of events sequenced in one transaction and handed to a sink at once.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Longest time the dispatcher waits before looking for new events again, committed changes wake it up right away.
+     * A sink that failed is retried after this time.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long events are kept after they were delivered to every durable sink, so clients of the event stream can resume.
+     */
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * How often delivered events older than the retention are deleted.
+     */
+    private Duration pruneInterval = Duration.ofMinutes(5);
+
+    /**
+     * Largest number of events deleted in one (short) transaction while pruning.
+     */
+    private int pruneBatchSize = 1000;
+
+    /**
+     * How long an event stream connection stays open, the client then reconnects with its Last-Event-ID.
+     */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    /**
+     * How often an idle event stream sends a comment line, so proxies and clients do not close the connection.
+     */
+    private Duration streamHeartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Largest number of event batches buffered for a stream client, a client that falls further behind reads the events
+     * from the outbox table instead.
+     */
+    private int streamQueueCapacity = 64;
+}
@@ -0,0 +1,21 @@
+package com.mysite.customers.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customers.import")
+public class CustomerImportProperties {
+    /**
+     * Number of rows committed in one transaction.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum number of rejected rows (with their validation errors) listed in the import result.
+     * Rejected rows above this limit are only counted.
+     */
+    private int maxReportedRejections = 1000;
+}
@@ -0,0 +1,20 @@
+package com.mysite.customers.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customers.listing")
+public class CustomerListingProperties {
+    /**
+     * Page size used when the client does not specify one.
+     */
+    private int defaultPageSize = 20;
+
+    /**
+     * Largest page size a client is allowed to request.
+     */
+    private int maxPageSize = 100;
+}
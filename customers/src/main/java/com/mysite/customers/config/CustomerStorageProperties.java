@@ -0,0 +1,56 @@
+package com.mysite.customers.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+ * Settings of the file-backed H2 database of the "persistent" profile (application-persistent.properties).
+ * The storage settings are part of the JDBC URL, the compaction settings are used by H2StorageMaintenance.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customers.storage")
+public class CustomerStorageProperties {
+    /**
+     * Database file path without the ".mv.db" extension.
+     */
+    private String path = "./data/customersdb";
+
+    /**
+     * Page cache size of the database in KB.
+     */
+    private int cacheSizeKb = 131072;
+
+    /**
+     * Longest time in milliseconds a commit waits before it is written to the file. Commits of concurrent transactions
+     * within this time are written together, a process crash loses at most the commits of this time.
+     * 0 (the default) writes every commit before it returns, a delay is an opt-in for throughput over durability.
+     */
+    private int writeDelayMs = 0;
+
+    /**
+     * Longest time in milliseconds the database file is compacted when the database is closed.
+     */
+    private int maxCompactTimeMs = 200;
+
+    /**
+     * Schedule of the online compaction (Spring cron expression).
+     */
+    private String compactionCron = "0 0 * * * *";
+
+    /**
+     * Chunks are rewritten only while the share of live data in the file is below this percentage.
+     */
+    private int compactionTargetFillRate = 80;
+
+    /**
+     * Most bytes rewritten by one scheduled compaction, so it cannot hold up the writers for long.
+     */
+    private int compactionMaxWriteBytes = 64 * 1024 * 1024;
+
+    /**
+     * Interval in milliseconds at which the storage metrics (file size, fill rate, used cache) are read from the database.
+     */
+    private int metricsSampleIntervalMs = 15000;
+}
@@ -0,0 +1,28 @@
+package com.mysite.customers.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customers.suggest")
+public class CustomerSuggestProperties {
+    /**
+     * Number of suggestions returned when the client does not specify a limit.
+     */
+    private int defaultLimit = 10;
+
+    /**
+     * Largest number of suggestions a client is allowed to request.
+     */
+    private int maxLimit = 50;
+
+    /**
+     * How long the name index keeps a deleted customer, so changes of transactions that committed before the deletion
+     * but are applied after it are still dropped. Must be longer than the time between a commit and its after-commit callbacks.
+     */
+    private Duration deletedRetention = Duration.ofMinutes(1);
+}
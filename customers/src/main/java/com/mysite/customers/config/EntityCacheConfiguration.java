@@ -0,0 +1,87 @@
+package com.mysite.customers.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.mysite.customers.domain.Customer;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/*
+ * Hibernate's second-level cache, backed by Caffeine through JCache (see "hibernate.cache.*" in application.properties).
+ * It sits below the "customers" DTO cache (CacheConfiguration) and serves entity loads by ID that miss it,
+ * e.g. the SELECT of a PUT or the existence check of a failed conditional write.
+ *
+ * The regions are created here from the "customers.entity-cache.*" properties, Hibernate is configured to fail on a missing one.
+ * Every application context gets its own JCache cache manager, so contexts sharing a JVM (tests) do not share cached entities.
+ */
+@Configuration
+@Profile("!" + ReactiveConfiguration.PROFILE)
+public class EntityCacheConfiguration {
+    public static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String UPDATE_TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties entityCacheProperties) {
+        var cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        var cacheManager = cachingProvider.getCacheManager(
+                URI.create("customers-entity-cache-" + UUID.randomUUID()),
+                EntityCacheConfiguration.class.getClassLoader());
+
+        cacheManager.createCache(
+                Customer.CACHE_REGION,
+                getRegionConfiguration(entityCacheProperties.getMaximumSize(), entityCacheProperties.getExpireAfterWrite().toNanos()));
+        cacheManager.createCache(
+                QUERY_RESULTS_REGION,
+                getRegionConfiguration(entityCacheProperties.getQueryMaximumSize(), entityCacheProperties.getExpireAfterWrite().toNanos()));
+
+        /*
+         * Update timestamps decide whether a cached query result is still valid, an evicted timestamp would make
+         * a stale result valid again, so this region is neither bounded nor expired (it has one entry per table).
+         */
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, getRegionConfiguration(null, null));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(CacheManager entityCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    /**
+     * Hit / miss, put and eviction counters of every region, as the "cache.*" metrics with the region name as the "cache" tag
+     * (next to the same metrics of the "customers" DTO cache). Hibernate's own "hibernate.second.level.cache.*" metrics
+     * do not count evictions.
+     */
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> {
+            for (var cacheName : entityCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(cacheName), Tags.empty());
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> getRegionConfiguration(Long maximumSize, Long expireAfterWriteNanos) {
+        var configuration = new CaffeineConfiguration<>();
+
+        configuration.setMaximumSize(maximumSize == null ? OptionalLong.empty() : OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(expireAfterWriteNanos == null ? OptionalLong.empty() : OptionalLong.of(expireAfterWriteNanos));
+        configuration.setStatisticsEnabled(true);
+
+        return configuration;
+    }
+}
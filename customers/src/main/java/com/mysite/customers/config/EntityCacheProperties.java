@@ -0,0 +1,27 @@
+package com.mysite.customers.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customers.entity-cache")
+public class EntityCacheProperties {
+    /**
+     * Maximum number of customer entities in Hibernate's second-level cache.
+     */
+    private long maximumSize = 10000;
+
+    /**
+     * Time after which a cached customer entity is loaded from the database again.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of cached query results (only queries marked as cacheable are cached).
+     */
+    private long queryMaximumSize = 1000;
+}
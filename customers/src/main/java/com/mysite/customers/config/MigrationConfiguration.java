@@ -0,0 +1,68 @@
+package com.mysite.customers.config;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/*
+ * Liquibase startup modes (MigrationProperties). The build fingerprints the changelog files (changelogFingerprint task),
+ * with customers.migration.mode=skip-unchanged an application whose changelog is already applied does not run Liquibase at all.
+ *
+ * Deployments that change the schema run the "migrate" command first (java -jar customers.jar migrate [--spring.profiles.active=...]),
+ * it applies the changelog and records its fingerprint without starting the web server, so the new instances start without Liquibase.
+ * The instances still run Liquibase when the fingerprints differ, so skipping the command costs startup time, nothing else.
+ */
+@Configuration
+public class MigrationConfiguration {
+    public static final String MIGRATE_COMMAND = "migrate";
+
+    /**
+     * Static, a bean post processor is created before the regular beans (and their configuration properties),
+     * so the properties are bound from the environment directly.
+     */
+    @Bean
+    public static ChangelogFingerprintPostProcessor changelogFingerprintPostProcessor(Environment environment) {
+        var migrationProperties = Binder.get(environment).bindOrCreate(MigrationProperties.PREFIX, MigrationProperties.class);
+
+        return new ChangelogFingerprintPostProcessor(migrationProperties.getMode(), readFingerprint(migrationProperties.getFingerprintLocation()));
+    }
+
+    /**
+     * Runs the "migrate" command: starts the application without the web server, so Liquibase applies the changelog
+     * and the fingerprint is recorded, and stops it again.
+     */
+    public static void migrate(Class<?> applicationClass, String... args) {
+        var migrateArgs = Stream.concat(
+                        Arrays.stream(args),
+                        Stream.of("--" + MigrationProperties.PREFIX + ".mode=always", "--spring.main.web-application-type=none"))
+                .toArray(String[]::new);
+
+        SpringApplication.run(applicationClass, migrateArgs).close();
+    }
+
+    private static String readFingerprint(String location) {
+        var resource = new DefaultResourceLoader().getResource(location);
+
+        if (!resource.exists()) {
+            LoggerFactory.getLogger(MigrationConfiguration.class).warn("No changelog fingerprint at {}, Liquibase runs at every startup.", location);
+
+            return null;
+        }
+
+        try {
+            return resource.getContentAsString(StandardCharsets.US_ASCII).strip();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.mysite.customers.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+ * How the Liquibase changelog is applied at startup, see MigrationConfiguration.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = MigrationProperties.PREFIX)
+public class MigrationProperties {
+    public static final String PREFIX = "customers.migration";
+
+    public enum Mode {
+        /**
+         * Liquibase checks the database against the changelog at every startup.
+         */
+        ALWAYS,
+
+        /**
+         * Liquibase does not run at all when the database records the fingerprint of the packaged changelog.
+         */
+        SKIP_UNCHANGED
+    }
+
+    /**
+     * Startup mode of the Liquibase migration.
+     */
+    private Mode mode = Mode.ALWAYS;
+
+    /**
+     * Location of the changelog fingerprint generated by the build (SHA-256 of all changelog files).
+     */
+    private String fingerprintLocation = "classpath:db/changelog.sha256";
+}
@@ -0,0 +1,18 @@
+package com.mysite.customers.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/*
+ * The "persistent" profile (application-persistent.properties) keeps the customers in an H2 database file (MVStore)
+ * instead of the in-memory database, so data survives restarts and writes pay the real cost of reaching the disk.
+ *
+ * Scheduling is only needed for the online compaction of the database file and the sampling of its metrics (H2StorageMaintenance).
+ */
+@Configuration
+@Profile(PersistentStorageConfiguration.PROFILE)
+@EnableScheduling
+public class PersistentStorageConfiguration {
+    public static final String PROFILE = "persistent";
+}
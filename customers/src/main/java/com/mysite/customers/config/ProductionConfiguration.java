@@ -0,0 +1,49 @@
+package com.mysite.customers.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/*
+ * The "prod" profile (application-prod.properties) does not load springdoc: scanning the controllers at runtime costs
+ * startup time and memory on every instance, and the result is the same for every instance of a build.
+ * The build generates the OpenAPI document instead (generateOpenApiDocs task), OpenApiDocumentController serves it.
+ *
+ * The Swagger UI is served here from the same swagger-ui webjar springdoc uses, at the same paths,
+ * with an initializer script (openapi/swagger-ui/swagger-initializer.js) pointing it to the generated document.
+ */
+@Configuration
+@Profile(ProductionConfiguration.PROFILE)
+public class ProductionConfiguration implements WebMvcConfigurer {
+    public static final String PROFILE = "prod";
+
+    private static final String SWAGGER_UI_WEBJAR_PROPERTIES = "META-INF/maven/org.webjars/swagger-ui/pom.properties";
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/swagger-ui/**")
+                .addResourceLocations(
+                        "classpath:/openapi/swagger-ui/",
+                        "classpath:/META-INF/resources/webjars/swagger-ui/" + getSwaggerUiVersion() + "/");
+    }
+
+    @Override
+    public void addViewControllers(ViewControllerRegistry registry) {
+        registry.addRedirectViewController("/swagger-ui.html", "/swagger-ui/index.html");
+    }
+
+    private static String getSwaggerUiVersion() {
+        try {
+            return PropertiesLoaderUtils.loadProperties(new ClassPathResource(SWAGGER_UI_WEBJAR_PROPERTIES)).getProperty("version");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
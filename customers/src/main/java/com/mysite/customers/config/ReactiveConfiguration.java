@@ -0,0 +1,27 @@
+package com.mysite.customers.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/*
+ * The "reactive" profile (application-reactive.properties) serves the customer API with WebFlux on top of R2DBC
+ * instead of Spring MVC on top of JPA, so both stacks can be compared with the same database and domain rules.
+ * There is no JDBC data source in that profile, so the JPA based beans are restricted to the servlet stack,
+ * and Liquibase migrates the database over its own JDBC connection (see application-reactive.properties).
+ */
+@Configuration
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveConfiguration {
+    public static final String PROFILE = "reactive";
+
+    /**
+     * Tomcat is on the classpath for the servlet stack and would otherwise be picked for WebFlux too,
+     * Netty serves all connections from a small, fixed number of event loop threads.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -1,46 +1,227 @@
 package com.mysite.customers.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.customers.config.ReactiveConfiguration;
 import com.mysite.customers.dto.CustomerDataDto;
 import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerLookupDto;
+import com.mysite.customers.dto.CustomerNameSuggestionDto;
+import com.mysite.customers.dto.CustomerPageDto;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.dto.batch.BatchCreateResultDto;
+import com.mysite.customers.dto.batch.BatchDeleteResultDto;
+import com.mysite.customers.dto.batch.ImportResultDto;
+import com.mysite.customers.dto.reader.CsvCustomerDataReader;
+import com.mysite.customers.dto.reader.NdjsonCustomerDataReader;
 import com.mysite.customers.dto.validation.ValidationErrorsDto;
 import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
 import com.mysite.customers.exception.ValidationException;
 import com.mysite.customers.service.ICustomerService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
+@Profile("!" + ReactiveConfiguration.PROFILE)
 public class CustomerController {
     private final ICustomerService customerService;
+    private final ObjectMapper objectMapper;
 
-    public CustomerController(ICustomerService customerService) {
+    public CustomerController(ICustomerService customerService, ObjectMapper objectMapper) {
         this.customerService = customerService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(
             summary = "Get a specific customer.",
-            description = "Tries to find a customer by the given ID value."
+            description = "Tries to find a customer by the given ID value. " +
+                    "Supports conditional requests: the response carries ETag (customer's version) and Last-Modified headers, " +
+                    "a request with a matching If-None-Match or an up-to-date If-Modified-Since header gets an empty 304 response. " +
+                    "The ETag can be passed as If-Match to update or delete the customer only if it has not been changed since."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Customer was found.",
                     content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CustomerDto.class)) }),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Customer has not been modified since the version the client has.",
+                    content = @Content),
             @ApiResponse(
                     responseCode = "404",
                     description = "Customer was not found.",
                     content = { @Content(mediaType = MediaType.TEXT_PLAIN_VALUE) })
     })
     @GetMapping("/v1/customers/{id}")
+    public ResponseEntity<CustomerDto> getCustomer(@PathVariable long id, WebRequest webRequest, HttpServletResponse response) throws NotFoundException {
+        /*
+         * Only the version and the modification time are queried first, the customer itself is loaded and serialized
+         * only when the client does not have the current version yet.
+         * The customer can change in between (or a cached DTO of the previous version can be returned), so the ETag and
+         * Last-Modified headers that checkNotModified set are replaced with the ones of the returned DTO.
+         * ResponseEntity headers would not replace them, they are only added when missing from the servlet response.
+         */
+        var customerVersion = customerService.getVersion(id);
+
+        if (webRequest.checkNotModified(toETag(customerVersion.version()), customerVersion.modifiedTime())) return null;
+
+        var customerDto = customerService.findById(id);
+
+        response.setHeader(HttpHeaders.ETAG, toETag(customerDto.version()));
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, customerDto.modifiedTime());
+
+        return ResponseEntity.ok(customerDto);
+    }
+
+    @Operation(
+            summary = "List customers.",
+            description = "Returns a page of customers ordered by ID. Pass the \"nextCursor\" value of a page to get the next page."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Customer page was found.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CustomerPageDto.class)) }),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor or limit is invalid.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ValidationErrorsDto.class)) })
+    })
+    @GetMapping("/v1/customers")
     @ResponseStatus(HttpStatus.OK)
-    public CustomerDto getCustomer(@PathVariable long id) throws NotFoundException {
-        return customerService.findById(id);
+    public CustomerPageDto getCustomers(@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) throws ValidationException {
+        return customerService.findPage(cursor, limit);
+    }
+
+    @Operation(
+            summary = "Find multiple customers by IDs.",
+            description = "Returns the customers with the given IDs in the requested order, IDs that were not found are listed separately. " +
+                    "Use the POST variant for ID lists that do not fit into a URL."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Found customers and missing IDs.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CustomerLookupDto.class)) }),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Number of IDs is out of allowed range.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ValidationErrorsDto.class)) })
+    })
+    @GetMapping(value = "/v1/customers", params = "ids")
+    @ResponseStatus(HttpStatus.OK)
+    public CustomerLookupDto getCustomersByIds(@RequestParam List<Long> ids) throws ValidationException {
+        return customerService.findByIds(ids);
+    }
+
+    @Operation(
+            summary = "Find multiple customers by IDs (IDs in request body).",
+            description = "Same as listing customers by IDs, but takes the IDs as a JSON array in the request body."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Found customers and missing IDs.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CustomerLookupDto.class)) }),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Number of IDs is out of allowed range.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ValidationErrorsDto.class)) })
+    })
+    @PostMapping("/v1/customers/lookup")
+    @ResponseStatus(HttpStatus.OK)
+    public CustomerLookupDto lookupCustomers(@RequestBody List<Long> ids) throws ValidationException {
+        return customerService.findByIds(ids);
+    }
+
+    @Operation(
+            summary = "Find customers by e-mail.",
+            description = "Returns all customers with the given e-mail address (matched case-insensitively), ordered by ID."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Matching customers, empty list if there are none.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = CustomerDto.class))) })
+    })
+    @GetMapping(value = "/v1/customers", params = "email")
+    @ResponseStatus(HttpStatus.OK)
+    public List<CustomerDto> getCustomersByEmail(@RequestParam String email) {
+        return customerService.findByEmail(email);
+    }
+
+    @Operation(
+            summary = "Suggest customers by name.",
+            description = "Returns customers whose first or last name starts with the given text (case-insensitively). " +
+                    "Meant for autocomplete, suggestions are served from an in-memory name index."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Suggested customers, empty list if there are none.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = CustomerNameSuggestionDto.class))) }),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Query or limit is invalid.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ValidationErrorsDto.class)) })
+    })
+    @GetMapping("/v1/customers/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    public List<CustomerNameSuggestionDto> suggestCustomers(@RequestParam(required = false) String q, @RequestParam(required = false) Integer limit) throws ValidationException {
+        return customerService.suggest(q, limit);
+    }
+
+    @Operation(
+            summary = "Export all customers.",
+            description = "Streams all customers ordered by ID as newline-delimited JSON, one customer per line."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Customers are being streamed.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = CustomerDto.class)) })
+    })
+    @GetMapping(value = "/v1/customers/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportCustomers(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        /*
+         * Customers are written straight to the response stream as they are read from the database.
+         * The generator only buffers a few kilobytes, when the client reads slowly the write blocks and so does the database cursor.
+         */
+        try (var generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+
+            customerService.exportAll(customerDto -> {
+                try {
+                    generator.writeObject(customerDto);
+                    generator.writeRaw('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
     }
 
     @Operation(
@@ -63,9 +244,67 @@ public class CustomerController {
         return customerService.create(newCustomerDataDto);
     }
 
+    @Operation(
+            summary = "Create multiple new customers.",
+            description = "Validates every given customer separately and creates all valid customers in a single transaction. " +
+                    "Results are returned in the same order as the given data."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch was processed, see per-item results for created customers and validation errors.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = BatchCreateResultDto.class)) })
+    })
+    @PostMapping("/v1/customers/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public BatchCreateResultDto createCustomers(@RequestBody List<CustomerDataDto> newCustomersDataDtos) {
+        return customerService.createBatch(newCustomersDataDtos);
+    }
+
+    @Operation(
+            summary = "Import customers from newline-delimited JSON.",
+            description = "Reads one customer per line and saves valid customers in chunks, each chunk in its own transaction. " +
+                    "The request body is processed while it is being received, so files of any size can be imported."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import was processed, see the result for accepted and rejected rows.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ImportResultDto.class)) })
+    })
+    @PostMapping(value = "/v1/customers/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public ImportResultDto importCustomersNdjson(InputStream requestBody) {
+        return customerService.importCustomers(new NdjsonCustomerDataReader(requestBody, objectMapper));
+    }
+
+    @Operation(
+            summary = "Import customers from CSV.",
+            description = "Reads one customer per line after a header line naming the columns firstName, lastName and email. " +
+                    "Valid customers are saved in chunks, each chunk in its own transaction. " +
+                    "The request body is processed while it is being received, so files of any size can be imported."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import was processed, see the result for accepted and rejected rows.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ImportResultDto.class)) }),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "CSV header is missing required columns.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ValidationErrorsDto.class)) })
+    })
+    @PostMapping(value = "/v1/customers/import", consumes = "text/csv")
+    @ResponseStatus(HttpStatus.OK)
+    public ImportResultDto importCustomersCsv(InputStream requestBody) throws ValidationException {
+        return customerService.importCustomers(new CsvCustomerDataReader(requestBody));
+    }
+
     @Operation(
             summary = "Update an existing customer.",
-            description = "Tries to update an existing customer with the given data."
+            description = "Tries to update an existing customer with the given data. " +
+                    "With an If-Match header the customer is only updated if its current ETag matches. " +
+                    "The response carries the new ETag."
     )
     @ApiResponses({
             @ApiResponse(
@@ -79,17 +318,64 @@ public class CustomerController {
             @ApiResponse(
                     responseCode = "404",
                     description = "Customer was not found.",
+                    content = { @Content(mediaType = MediaType.TEXT_PLAIN_VALUE) }),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Customer was changed by a concurrent request while being updated (without If-Match), the update can be retried.",
+                    content = { @Content(mediaType = MediaType.TEXT_PLAIN_VALUE) }),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Customer does not match the If-Match ETag, it has been changed since.",
                     content = { @Content(mediaType = MediaType.TEXT_PLAIN_VALUE) })
     })
     @PutMapping("/v1/customers/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public CustomerDto updateCustomer(@PathVariable long id, @RequestBody CustomerDataDto updatedCustomerDataDto) throws ValidationException, NotFoundException {
-        return customerService.update(id, updatedCustomerDataDto);
+    public ResponseEntity<CustomerDto> updateCustomer(
+            @PathVariable long id,
+            @RequestBody CustomerDataDto updatedCustomerDataDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws ValidationException, NotFoundException, PreconditionFailedException {
+        var customerDto = customerService.update(id, updatedCustomerDataDto, parseIfMatch(id, ifMatch));
+
+        return ResponseEntity.ok().eTag(toETag(customerDto.version())).body(customerDto);
+    }
+
+    @Operation(
+            summary = "Partially update an existing customer.",
+            description = "Tries to update only the given properties of an existing customer, missing or null properties are left unchanged. " +
+                    "With an If-Match header the customer is only updated if its current ETag matches. " +
+                    "The response carries the new ETag."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Existing customer was updated.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CustomerDto.class)) }),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Given customer properties did not pass validation rules.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ValidationErrorsDto.class)) }),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Customer was not found.",
+                    content = { @Content(mediaType = MediaType.TEXT_PLAIN_VALUE) }),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Customer does not match the If-Match ETag, it has been changed since.",
+                    content = { @Content(mediaType = MediaType.TEXT_PLAIN_VALUE) })
+    })
+    @PatchMapping(value = "/v1/customers/{id}", consumes = { MediaType.APPLICATION_JSON_VALUE, "application/merge-patch+json" })
+    public ResponseEntity<CustomerDto> patchCustomer(
+            @PathVariable long id,
+            @RequestBody CustomerPatchDto customerPatchDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws ValidationException, NotFoundException, PreconditionFailedException {
+        var customerDto = customerService.patch(id, customerPatchDto, parseIfMatch(id, ifMatch));
+
+        return ResponseEntity.ok().eTag(toETag(customerDto.version())).body(customerDto);
     }
 
     @Operation(
             summary = "Delete a specific customer.",
-            description = "Tries to delete a customer by the given ID value."
+            description = "Tries to delete a customer by the given ID value. " +
+                    "With an If-Match header the customer is only deleted if its current ETag matches."
     )
     @ApiResponses({
             @ApiResponse(
@@ -99,12 +385,61 @@ public class CustomerController {
             @ApiResponse(
                     responseCode = "404",
                     description = "Customer was not found.",
+                    content = { @Content(mediaType = MediaType.TEXT_PLAIN_VALUE) }),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Customer does not match the If-Match ETag, it has been changed since.",
                     content = { @Content(mediaType = MediaType.TEXT_PLAIN_VALUE) })
     })
     @DeleteMapping("/v1/customers/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteCustomer(@PathVariable long id) throws NotFoundException {
-        customerService.deleteById(id);
+    public void deleteCustomer(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws NotFoundException, PreconditionFailedException {
+        customerService.deleteById(id, parseIfMatch(id, ifMatch));
     }
 
+    @Operation(
+            summary = "Delete multiple customers.",
+            description = "Tries to delete all customers with the given IDs at once, IDs that were not found are listed in the response."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Found customers were deleted.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = BatchDeleteResultDto.class)) }),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Number of IDs is out of allowed range.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ValidationErrorsDto.class)) })
+    })
+    @DeleteMapping(value = "/v1/customers", params = "ids")
+    @ResponseStatus(HttpStatus.OK)
+    public BatchDeleteResultDto deleteCustomers(@RequestParam List<Long> ids) throws ValidationException {
+        return customerService.deleteByIds(ids);
+    }
+
+    private static String toETag(long version) {
+        return String.format("\"%d\"", version);
+    }
+
+    /*
+     * Only a single strong ETag is supported, "*" is the same as no If-Match header (the customer has to exist anyway).
+     * Anything else (weak or malformed ETags, lists) can never match the current version.
+     */
+    private static Long parseIfMatch(long id, String ifMatch) throws PreconditionFailedException {
+        if (ifMatch == null || ifMatch.trim().equals("*")) return null;
+
+        var eTag = ifMatch.trim();
+
+        if (eTag.length() > 2 && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+            try {
+                return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // falls through to the failed precondition
+            }
+        }
+
+        throw new PreconditionFailedException(id, "Customer");
+    }
 }
@@ -0,0 +1,120 @@
+package com.mysite.customers.controller;
+
+import com.mysite.customers.config.CustomerEventProperties;
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.dto.event.CustomerEventDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.dto.validation.ValidationErrorsDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.event.CustomerEventDispatcher;
+import com.mysite.customers.service.event.CustomerEventStream;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@Profile("!" + ReactiveConfiguration.PROFILE)
+public class CustomerEventController {
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private final CustomerEventStream eventStream;
+    private final CustomerEventDispatcher eventDispatcher;
+    private final CustomerEventProperties eventProperties;
+
+    public CustomerEventController(CustomerEventStream eventStream, CustomerEventDispatcher eventDispatcher, CustomerEventProperties eventProperties) {
+        this.eventStream = eventStream;
+        this.eventDispatcher = eventDispatcher;
+        this.eventProperties = eventProperties;
+    }
+
+    @Operation(
+            summary = "Stream customer changes.",
+            description = "Streams created, updated and deleted customers as server-sent events, in the order of their sequence number " +
+                    "(the event ID). All changes of a customer are in the order they were made. " +
+                    "Starts after the given sequence number (\"after\" or a reconnecting client's Last-Event-ID header, which takes precedence), " +
+                    "without either only changes made from now on are streamed. Changes are kept for a limited time only."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes are being streamed.",
+                    content = { @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = CustomerEventDto.class)) }),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Sequence number is not valid.",
+                    content = { @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ValidationErrorsDto.class)) })
+    })
+    @GetMapping(value = "/v1/customers/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Long after,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) throws ValidationException {
+        long afterSeq;
+
+        if (lastEventId != null) {
+            afterSeq = parseLastEventId(lastEventId);
+        } else if (after != null) {
+            afterSeq = after;
+
+            if (afterSeq < 0) throw new ValidationException(List.of(new ValidationError("after", String.valueOf(after), "Sequence number cannot be negative.")));
+        } else {
+            afterSeq = eventDispatcher.getLastSeq();
+        }
+
+        var emitter = new SseEmitter(eventProperties.getStreamTimeout().toMillis());
+        var subscription = eventStream.subscribe(afterSeq, new EmitterSubscriber(emitter));
+
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(ex -> subscription.cancel());
+
+        return emitter;
+    }
+
+    private static long parseLastEventId(String lastEventId) throws ValidationException {
+        long lastSeq;
+
+        try {
+            lastSeq = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            throw new ValidationException(List.of(new ValidationError(LAST_EVENT_ID_HEADER, lastEventId, "Sequence number must be a number.")));
+        }
+
+        if (lastSeq < 0) throw new ValidationException(List.of(new ValidationError(LAST_EVENT_ID_HEADER, lastEventId, "Sequence number cannot be negative.")));
+
+        return lastSeq;
+    }
+
+    private record EmitterSubscriber(SseEmitter emitter) implements CustomerEventStream.Subscriber {
+        @Override
+        public void send(List<CustomerEventDto> events) throws IOException {
+            for (var event : events) {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.seq()))
+                        .name(event.type().getValue())
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void complete() {
+            emitter.complete();
+        }
+    }
+}
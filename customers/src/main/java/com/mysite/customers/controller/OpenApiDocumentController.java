@@ -0,0 +1,43 @@
+package com.mysite.customers.controller;
+
+import com.mysite.customers.config.ProductionConfiguration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/*
+ * The OpenAPI document in the "prod" profile: generated by the build (generateOpenApiDocs task), read once and served as it is,
+ * at the path springdoc serves it from in the other profiles.
+ */
+@RestController
+@Profile(ProductionConfiguration.PROFILE)
+public class OpenApiDocumentController {
+    public static final String API_DOCS_PATH = "/v3/api-docs";
+    public static final String DOCUMENT_LOCATION = "openapi/api-docs.json";
+
+    private final byte[] document;
+
+    public OpenApiDocumentController() {
+        var resource = new ClassPathResource(DOCUMENT_LOCATION);
+
+        if (!resource.exists()) {
+            throw new IllegalStateException("OpenAPI document " + DOCUMENT_LOCATION + " not found, it is generated by the generateOpenApiDocs task.");
+        }
+
+        try {
+            this.document = resource.getContentAsByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @GetMapping(value = API_DOCS_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] getApiDocs() {
+        return document;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mysite.customers.controller;
+
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.service.IReactiveCustomerService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/*
+ * WebFlux counterpart of the CustomerController CRUD endpoints, served by the "reactive" profile.
+ * Request and response bodies, status codes and error responses are the same as in CustomerController
+ * (see its API documentation), the conditional GET headers are not supported.
+ */
+@RestController
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveCustomerController {
+    private final IReactiveCustomerService customerService;
+
+    public ReactiveCustomerController(IReactiveCustomerService customerService) {
+        this.customerService = customerService;
+    }
+
+    @GetMapping("/v1/customers/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<CustomerDto> getCustomer(@PathVariable long id) {
+        return customerService.findById(id);
+    }
+
+    @PostMapping("/v1/customers")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<CustomerDto> createCustomer(@RequestBody CustomerDataDto newCustomerDataDto) {
+        return customerService.create(newCustomerDataDto);
+    }
+
+    @PutMapping("/v1/customers/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<CustomerDto> updateCustomer(@PathVariable long id, @RequestBody CustomerDataDto updatedCustomerDataDto) {
+        return customerService.update(id, updatedCustomerDataDto);
+    }
+
+    @DeleteMapping("/v1/customers/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteCustomer(@PathVariable long id) {
+        return customerService.deleteById(id);
+    }
+
+}
@@ -3,14 +3,20 @@ package com.mysite.customers.domain;
 import com.mysite.customers.domain.config.CustomerPropertyConfiguration;
 import com.mysite.customers.domain.listener.CustomerListener;
 import com.mysite.customers.exception.ValidationException;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.jpa.domain.AbstractPersistable;
 
 import java.util.Date;
@@ -29,9 +35,17 @@ import java.util.Date;
 @Getter
 @Setter
 @Entity
-@Table(name = "customer")
+@Table(name = "customer", indexes = @Index(name = "ix_customer_email", columnList = "email"))
 @EntityListeners(CustomerListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Customer.CACHE_REGION)
 public class Customer extends AbstractPersistable<Long> {
+    /*
+     * Second-level cache region (see EntityCacheConfiguration).
+     * Read-write: while a transaction updates a cached customer, the entry is locked and other transactions read the customer
+     * from the database, so the cache does not serve a state that was not committed or is already outdated.
+     */
+    public static final String CACHE_REGION = "customer";
 
     @Column(name = "first_name", nullable = false)
     @NotNull(message = "First name must be  specified")
@@ -66,6 +80,15 @@ public class Customer extends AbstractPersistable<Long> {
     @Column(name = "modified_dtime", nullable = false)
     private Date modifiedDtime;
 
+    /*
+     * Optimistic locking: every UPDATE / DELETE of the entity checks and increments the version,
+     * concurrent writers are detected without holding row locks. Exposed to clients as the ETag.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private long version;
+
     protected Customer() {}
 
     /*
@@ -6,103 +6,158 @@ import com.mysite.customers.exception.ValidationException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class CustomerValidator {
-    /**
-     * For simplicity the pattern is: "^[a-z]+@[a-z]+\.[a-z]+$" (without the quotation marks).
+    /*
+     * For simplicity the e-mail format is: "^[a-z]+@[a-z]+\.[a-z]+$" (without the quotation marks).
      * Explanation: string must contain the symbol @;
      * the text before @ can contain only lowercase letters (no "special" letters however), with at least one letter being mandatory;
      * there must be text after @, it can contain only lowercase letters (no "special" letters however) and a single period, the period has to be surrounded by letters.
+     *
+     * The format is checked by hasValidEmailFormat instead of a regex Matcher, so validating valid data allocates nothing.
      */
-    private static final Pattern EMAIL_REGEX = Pattern.compile("^[a-z]+@[a-z]+\\.[a-z]+$");
 
     protected static void ensureValidity(String firstName, String lastName, String email) throws ValidationException {
         var validationErrors = getValidationErrors(firstName, lastName, email);
 
-        if (validationErrors.isEmpty()) return;
+        if (validationErrors == null) return;
 
         throw new ValidationException(validationErrors);
     }
 
+    /**
+     * Validates only the given (non-null) values, for partial updates that are applied without loading the entity.
+     * Values that are null are left unchanged by such updates, so they are not validated.
+     */
+    public static void ensureValidityOfChanges(String firstName, String lastName, String email) throws ValidationException {
+        List<ValidationError> validationErrors = null;
+
+        if (firstName != null) {
+            validationErrors = addError(validationErrors, validateFirstName(firstName));
+        }
+
+        if (lastName != null) {
+            validationErrors = addError(validationErrors, validateLastName(lastName));
+        }
+
+        if (email != null) {
+            validationErrors = addError(validationErrors, validateEmail(email));
+        }
+
+        if (validationErrors == null) return;
+
+        throw new ValidationException(validationErrors);
+    }
+
+    /**
+     * @return the validation errors, or null when all values are valid (the list is only created on the first error).
+     */
     private static List<ValidationError> getValidationErrors(String firstName, String lastName, String email) {
-        List<ValidationError> validationErrors = new ArrayList<>(0);
+        List<ValidationError> validationErrors = null;
+
+        validationErrors = addError(validationErrors, validateFirstName(firstName));
+
+        validationErrors = addError(validationErrors, validateLastName(lastName));
 
-        validationErrors.addAll(validateFirstName(firstName));
+        validationErrors = addError(validationErrors, validateEmail(email));
 
-        validationErrors.addAll(validateLastName(lastName));
+        return validationErrors;
+    }
+
+    private static List<ValidationError> addError(List<ValidationError> validationErrors, ValidationError validationError) {
+        if (validationError == null) return validationErrors;
+
+        if (validationErrors == null) {
+            validationErrors = new ArrayList<>(3);
+        }
 
-        validationErrors.addAll(validateEmail(email));
+        validationErrors.add(validationError);
 
         return validationErrors;
     }
 
     /*
      * String props validations could be made more "generic" with a prop validation context data structure input.
+     * Each validation returns the first error of the property, or null when the value is valid.
      */
 
-    private static List<ValidationError> validateFirstName(String firstName) {
-        List<ValidationError> firstNameValidationErrors = new ArrayList<>(0);
-
+    private static ValidationError validateFirstName(String firstName) {
         if (firstName == null) {
-            firstNameValidationErrors.add(new ValidationError(Customer.FIRST_NAME_PROP_NAME, null, "First name must have a value."));
-
-            return firstNameValidationErrors;
+            return new ValidationError(Customer.FIRST_NAME_PROP_NAME, null, "First name must have a value.");
         }
 
         if (firstName.length() < CustomerPropertyConfiguration.FirstName.MIN_SIZE
                 || firstName.length() > CustomerPropertyConfiguration.FirstName.MAX_SIZE) {
-            firstNameValidationErrors.add(new ValidationError(
+            return new ValidationError(
                     Customer.FIRST_NAME_PROP_NAME,
                     firstName,
-                    String.format("First name must be between %d and %d characters long.", CustomerPropertyConfiguration.FirstName.MIN_SIZE, CustomerPropertyConfiguration.FirstName.MAX_SIZE)));
+                    String.format("First name must be between %d and %d characters long.", CustomerPropertyConfiguration.FirstName.MIN_SIZE, CustomerPropertyConfiguration.FirstName.MAX_SIZE));
         }
 
-        return firstNameValidationErrors;
+        return null;
     }
 
-    private static List<ValidationError> validateLastName(String lastName) {
-        List<ValidationError> lastNameValidationErrors = new ArrayList<>(0);
-
+    private static ValidationError validateLastName(String lastName) {
         if (lastName == null) {
-            lastNameValidationErrors.add(new ValidationError(Customer.LAST_NAME_PROP_NAME, null, "Last name must have a value."));
-
-            return lastNameValidationErrors;
+            return new ValidationError(Customer.LAST_NAME_PROP_NAME, null, "Last name must have a value.");
         }
 
         if (lastName.length() < CustomerPropertyConfiguration.LastName.MIN_SIZE
                 || lastName.length() > CustomerPropertyConfiguration.LastName.MAX_SIZE) {
-            lastNameValidationErrors.add(new ValidationError(
+            return new ValidationError(
                     Customer.LAST_NAME_PROP_NAME,
                     lastName,
-                    String.format("Last name must be between %d and %d characters long.", CustomerPropertyConfiguration.LastName.MIN_SIZE, CustomerPropertyConfiguration.LastName.MAX_SIZE)));
+                    String.format("Last name must be between %d and %d characters long.", CustomerPropertyConfiguration.LastName.MIN_SIZE, CustomerPropertyConfiguration.LastName.MAX_SIZE));
         }
 
-        return lastNameValidationErrors;
+        return null;
     }
 
-    private static List<ValidationError> validateEmail(String email) {
-        List<ValidationError> emailValidationErrors = new ArrayList<>(0);
-
+    private static ValidationError validateEmail(String email) {
         if (email == null) {
-            emailValidationErrors.add(new ValidationError(Customer.EMAIL_PROP_NAME, null, "E-mail must have a value."));
-
-            return emailValidationErrors;
+            return new ValidationError(Customer.EMAIL_PROP_NAME, null, "E-mail must have a value.");
         }
 
         if (email.length() < CustomerPropertyConfiguration.Email.MIN_SIZE
                 || email.length() > CustomerPropertyConfiguration.Email.MAX_SIZE) {
-            emailValidationErrors.add(new ValidationError(
+            return new ValidationError(
                     Customer.EMAIL_PROP_NAME,
                     email,
-                    String.format("E-mail must be between %d and %d characters long.", CustomerPropertyConfiguration.Email.MIN_SIZE, CustomerPropertyConfiguration.Email.MAX_SIZE)));
-        } else if (!EMAIL_REGEX.matcher(email).matches()) {
-            emailValidationErrors.add(new ValidationError(
+                    String.format("E-mail must be between %d and %d characters long.", CustomerPropertyConfiguration.Email.MIN_SIZE, CustomerPropertyConfiguration.Email.MAX_SIZE));
+        }
+
+        if (!hasValidEmailFormat(email)) {
+            return new ValidationError(
                     Customer.EMAIL_PROP_NAME,
                     email,
-                    "E-mail has an incorrect format. See the API documentation for the correct format."));
+                    "E-mail has an incorrect format. See the API documentation for the correct format.");
+        }
+
+        return null;
+    }
+
+    /**
+     * Single pass equivalent of matching the e-mail against "^[a-z]+@[a-z]+\.[a-z]+$".
+     * The e-mail is scanned as three parts (local part, domain name, top-level domain),
+     * '@' ends the first part, '.' ends the second one, and every part must have at least one letter.
+     */
+    static boolean hasValidEmailFormat(String email) {
+        var part = 0;
+        var partLength = 0;
+
+        for (var i = 0; i < email.length(); i++) {
+            var c = email.charAt(i);
+
+            if (c >= 'a' && c <= 'z') {
+                partLength++;
+            } else if (partLength > 0 && ((part == 0 && c == '@') || (part == 1 && c == '.'))) {
+                part++;
+                partLength = 0;
+            } else {
+                return false;
+            }
         }
 
-        return emailValidationErrors;
+        return part == 2 && partLength > 0;
     }
 }
@@ -0,0 +1,39 @@
+package com.mysite.customers.domain.listener;
+
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.repository.CustomerIdGenerator;
+import com.mysite.customers.repository.CustomerRow;
+import org.reactivestreams.Publisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/*
+ * Reactive stack counterpart of CustomerListener: sets the ID and the created / modified date+time fields before a row is saved.
+ */
+@Component
+@Profile(ReactiveConfiguration.PROFILE)
+public class CustomerRowCallback implements BeforeConvertCallback<CustomerRow> {
+
+    private final CustomerIdGenerator idGenerator;
+
+    public CustomerRowCallback(CustomerIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Publisher<CustomerRow> onBeforeConvert(CustomerRow row, SqlIdentifier table) {
+        var dateNow = LocalDateTime.now();
+
+        if (row.id() != null) {
+            return Mono.just(new CustomerRow(row.id(), row.firstName(), row.lastName(), row.email(), row.createdDtime(), dateNow, row.version()));
+        }
+
+        return idGenerator.nextId()
+                .map(id -> new CustomerRow(id, row.firstName(), row.lastName(), row.email(), dateNow, dateNow, row.version()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.mysite.customers.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.mysite.customers.domain.config.CustomerPropertyConfiguration;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -17,4 +18,19 @@ public record CustomerDto(
 
         @NotNull
         @Size(min = CustomerPropertyConfiguration.Email.MIN_SIZE, max = CustomerPropertyConfiguration.Email.MAX_SIZE)
-        String email) { }
+        String email,
+
+        @JsonIgnore
+        long version,
+
+        /* Epoch milliseconds, sent as the Last-Modified header together with the version (ETag) of the same state. */
+        @JsonIgnore
+        long modifiedTime) {
+
+    /**
+     * Customer state whose modification time is not known (0).
+     */
+    public CustomerDto(Long id, String firstName, String lastName, String email, long version) {
+        this(id, firstName, lastName, email, version, 0);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mysite.customers.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record CustomerLookupDto(
+        @Schema(description = "Found customers in the order of the requested IDs")
+        List<CustomerDto> customers,
+
+        @Schema(description = "Requested IDs which were not found, in the order they were requested")
+        List<Long> missingIds) { }
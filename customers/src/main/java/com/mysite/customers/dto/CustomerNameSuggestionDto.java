@@ -0,0 +1,6 @@
+package com.mysite.customers.dto;
+
+public record CustomerNameSuggestionDto(
+        long id,
+        String firstName,
+        String lastName) { }
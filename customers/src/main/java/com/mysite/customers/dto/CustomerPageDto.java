@@ -0,0 +1,11 @@
+package com.mysite.customers.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record CustomerPageDto(
+        List<CustomerDto> customers,
+
+        @Schema(description = "Opaque cursor for requesting the next page, null if this is the last page")
+        String nextCursor) { }
@@ -0,0 +1,5 @@
+package com.mysite.customers.dto;
+
+public record CustomerVersionDto(
+        long version,
+        long modifiedTime) { }
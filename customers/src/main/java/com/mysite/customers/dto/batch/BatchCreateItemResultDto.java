@@ -0,0 +1,15 @@
+package com.mysite.customers.dto.batch;
+
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.validation.ValidationError;
+
+import java.util.List;
+
+/*
+ * Exactly one of "customer" and "errors" has a value:
+ * "customer" when the item was created, "errors" when the item did not pass validation.
+ */
+public record BatchCreateItemResultDto(
+        int index,
+        CustomerDto customer,
+        List<ValidationError> errors) { }
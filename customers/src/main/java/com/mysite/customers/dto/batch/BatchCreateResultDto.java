@@ -0,0 +1,8 @@
+package com.mysite.customers.dto.batch;
+
+import java.util.List;
+
+public record BatchCreateResultDto(
+        int createdCount,
+        int rejectedCount,
+        List<BatchCreateItemResultDto> results) { }
@@ -0,0 +1,7 @@
+package com.mysite.customers.dto.batch;
+
+import java.util.List;
+
+public record BatchDeleteResultDto(
+        int deletedCount,
+        List<Long> missingIds) { }
@@ -0,0 +1,9 @@
+package com.mysite.customers.dto.batch;
+
+import com.mysite.customers.dto.validation.ValidationError;
+
+import java.util.List;
+
+public record ImportRejectedRowDto(
+        long lineNumber,
+        List<ValidationError> errors) { }
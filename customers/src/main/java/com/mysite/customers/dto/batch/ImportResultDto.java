@@ -0,0 +1,8 @@
+package com.mysite.customers.dto.batch;
+
+import java.util.List;
+
+public record ImportResultDto(
+        long acceptedCount,
+        long rejectedCount,
+        List<ImportRejectedRowDto> rejectedRows) { }
@@ -0,0 +1,19 @@
+package com.mysite.customers.dto.event;
+
+import com.mysite.customers.dto.CustomerDto;
+
+import java.time.Instant;
+
+/**
+ * A change of a customer, read from the customer_event outbox table.
+ * @param seq position of the event in the feed, gap-free and increasing in delivery order
+ * @param customerVersion version of the customer after the change (before it, for a deleted customer)
+ * @param customer state of the customer after the change (before it, for a deleted customer)
+ */
+public record CustomerEventDto(
+        long seq,
+        CustomerEventType type,
+        long customerId,
+        long customerVersion,
+        Instant occurredAt,
+        CustomerDto customer) { }
@@ -0,0 +1,19 @@
+package com.mysite.customers.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum CustomerEventType {
+    CREATED,
+    UPDATED,
+    DELETED;
+
+    /**
+     * Lowercase name, used in the JSON representation and as the name of server-sent events.
+     */
+    @JsonValue
+    public String getValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
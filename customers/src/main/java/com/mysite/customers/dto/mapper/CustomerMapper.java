@@ -2,13 +2,24 @@ package com.mysite.customers.dto.mapper;
 
 import com.mysite.customers.domain.Customer;
 import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.repository.CustomerRow;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.util.Assert;
 
+import java.sql.Timestamp;
+
 public class CustomerMapper {
     public static CustomerDto toDto(@NotNull Customer customer) throws IllegalArgumentException {
         Assert.notNull(customer, "Customer cannot be null");
 
-        return new CustomerDto(customer.getId(), customer.getFirstName(), customer.getLastName(), customer.getEmail());
+        return new CustomerDto(customer.getId(), customer.getFirstName(), customer.getLastName(), customer.getEmail(), customer.getVersion(),
+                customer.getModifiedDtime().getTime());
+    }
+
+    public static CustomerDto rowToDto(@NotNull CustomerRow customerRow) throws IllegalArgumentException {
+        Assert.notNull(customerRow, "Customer row cannot be null");
+
+        return new CustomerDto(customerRow.id(), customerRow.firstName(), customerRow.lastName(), customerRow.email(), customerRow.version(),
+                Timestamp.valueOf(customerRow.modifiedDtime()).getTime());
     }
 }
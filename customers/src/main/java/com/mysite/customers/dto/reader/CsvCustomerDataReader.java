@@ -0,0 +1,149 @@
+package com.mysite.customers.dto.reader;
+
+import com.mysite.customers.domain.Customer;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.exception.ValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads customer data from comma-separated values, one customer per line.
+ * The first line is a header that must name the columns firstName, lastName and email (in any order, other columns are ignored).
+ * Values can be quoted with double quotes, a double quote inside a quoted value is escaped by doubling it.
+ * Quoted values cannot span multiple lines. Blank lines are skipped.
+ */
+public class CsvCustomerDataReader implements Iterator<CustomerDataRow> {
+    private final BufferedReader reader;
+    private final int firstNameColumn;
+    private final int lastNameColumn;
+    private final int emailColumn;
+    private long lineNumber = 0;
+    private String nextLine;
+
+    public CsvCustomerDataReader(InputStream inputStream) throws ValidationException {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        var header = readNonBlankLine();
+        var columns = header == null ? null : parseLine(header);
+
+        if (columns == null) columns = List.of();
+
+        this.firstNameColumn = indexOfIgnoreCase(columns, Customer.FIRST_NAME_PROP_NAME);
+        this.lastNameColumn = indexOfIgnoreCase(columns, Customer.LAST_NAME_PROP_NAME);
+        this.emailColumn = indexOfIgnoreCase(columns, Customer.EMAIL_PROP_NAME);
+
+        if (firstNameColumn < 0 || lastNameColumn < 0 || emailColumn < 0) {
+            throw new ValidationException(List.of(new ValidationError(
+                    null,
+                    header,
+                    String.format("CSV header must contain the columns %s, %s and %s.", Customer.FIRST_NAME_PROP_NAME, Customer.LAST_NAME_PROP_NAME, Customer.EMAIL_PROP_NAME))));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine != null) return true;
+
+        nextLine = readNonBlankLine();
+
+        return nextLine != null;
+    }
+
+    @Override
+    public CustomerDataRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        var line = nextLine;
+        nextLine = null;
+
+        var values = parseLine(line);
+
+        if (values == null) {
+            return new CustomerDataRow(lineNumber, null, List.of(new ValidationError(null, line, "Line has an unterminated quoted value.")));
+        }
+
+        return new CustomerDataRow(lineNumber, new CustomerDataDto(
+                getValue(values, firstNameColumn),
+                getValue(values, lastNameColumn),
+                getValue(values, emailColumn)), null);
+    }
+
+    private String readNonBlankLine() {
+        try {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (!line.isBlank()) return line;
+            }
+
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /*
+     * A missing trailing column is read as null, which the validator reports as a missing value.
+     */
+    private static String getValue(List<String> values, int column) {
+        return column < values.size() ? values.get(column) : null;
+    }
+
+    private static int indexOfIgnoreCase(List<String> columns, String columnName) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).trim().equalsIgnoreCase(columnName)) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Splits a CSV line into values.
+     * @return line values or null if the line has an unterminated quoted value
+     */
+    private static List<String> parseLine(String line) {
+        var values = new ArrayList<String>(3);
+        var value = new StringBuilder();
+        var quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            var c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) return null;
+
+        values.add(value.toString());
+
+        return values;
+    }
+}
@@ -0,0 +1,15 @@
+package com.mysite.customers.dto.reader;
+
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.validation.ValidationError;
+
+import java.util.List;
+
+/*
+ * A single row of an import file.
+ * When the row could not be parsed, "data" is null and "parseErrors" describes the problem.
+ */
+public record CustomerDataRow(
+        long lineNumber,
+        CustomerDataDto data,
+        List<ValidationError> parseErrors) { }
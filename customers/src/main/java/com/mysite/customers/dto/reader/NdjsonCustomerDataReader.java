@@ -0,0 +1,77 @@
+package com.mysite.customers.dto.reader;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.validation.ValidationError;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads customer data from newline-delimited JSON, one customer object per line.
+ * Lines are parsed one at a time, so only the current line is held in memory.
+ * Blank lines are skipped.
+ */
+public class NdjsonCustomerDataReader implements Iterator<CustomerDataRow> {
+    private final BufferedReader reader;
+    private final ObjectReader customerDataReader;
+    private long lineNumber = 0;
+    private String nextLine;
+
+    public NdjsonCustomerDataReader(InputStream inputStream, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.customerDataReader = objectMapper.readerFor(CustomerDataDto.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine != null) return true;
+
+        try {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (!line.isBlank()) {
+                    nextLine = line;
+
+                    return true;
+                }
+            }
+
+            return false;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public CustomerDataRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        var line = nextLine;
+        nextLine = null;
+
+        try {
+            CustomerDataDto customerDataDto = customerDataReader.readValue(line);
+
+            if (customerDataDto == null) {
+                return new CustomerDataRow(lineNumber, null, List.of(new ValidationError(null, line, "Line must contain a JSON object.")));
+            }
+
+            return new CustomerDataRow(lineNumber, customerDataDto, null);
+        } catch (JsonProcessingException ex) {
+            return new CustomerDataRow(lineNumber, null, List.of(new ValidationError(null, line, "Line is not valid JSON.")));
+        }
+    }
+}
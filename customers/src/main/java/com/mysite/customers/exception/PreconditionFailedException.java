@@ -0,0 +1,7 @@
+package com.mysite.customers.exception;
+
+public class PreconditionFailedException extends Exception {
+    public PreconditionFailedException(Long id, String entityName) {
+        super(String.format("Entity '%s' with id: %d does not match the expected version.", entityName, id));
+    }
+}
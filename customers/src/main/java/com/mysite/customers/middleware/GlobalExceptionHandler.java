@@ -2,11 +2,15 @@ package com.mysite.customers.middleware;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.customers.config.ReactiveConfiguration;
 import com.mysite.customers.dto.validation.ValidationErrorsDto;
 import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
 import com.mysite.customers.exception.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
 @ControllerAdvice
+@Profile("!" + ReactiveConfiguration.PROFILE)
 public class GlobalExceptionHandler {
 
     Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
@@ -32,6 +37,29 @@ public class GlobalExceptionHandler {
                 .body(ex.getMessage());
     }
 
+    @ExceptionHandler({PreconditionFailedException.class})
+    public ResponseEntity<String> handlePreconditionFailedException(PreconditionFailedException ex, WebRequest webRequest) {
+        logger.error("Precondition failed exception: {}. Request: {}", ex.getMessage(), webRequest.toString());
+
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(ex.getMessage());
+    }
+
+    /*
+     * An unconditional update lost the race against a concurrent update of the same customer.
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class})
+    public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex, WebRequest webRequest) {
+        logger.error("Optimistic locking failure exception: {}. Request: {}", ex.getMessage(), webRequest.toString());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("Customer was changed by a concurrent request, please retry.");
+    }
+
     @ExceptionHandler({ValidationException.class})
     public ResponseEntity<ValidationErrorsDto> handleValidationException(ValidationException ex, WebRequest webRequest) throws JsonProcessingException {
         var errorsStr = new ObjectMapper().writeValueAsString(ex.getErrors());
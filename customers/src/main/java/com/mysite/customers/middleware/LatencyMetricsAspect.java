@@ -0,0 +1,87 @@
+package com.mysite.customers.middleware;
+
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
+import com.mysite.customers.exception.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/*
+ * Times every CustomerController endpoint ("customers.controller") and every ICustomerService method ("customers.service"),
+ * tagged by operation (method name) and outcome, so the time spent in each layer can be compared per operation.
+ * Repository calls are timed by Spring Boot ("spring.data.repository.invocations"), whole requests by Spring MVC ("http.server.requests").
+ * Percentile histograms are enabled in application.properties.
+ *
+ * The reactive stack returns before the work is done, so only the servlet stack is timed here.
+ */
+@Aspect
+@Component
+@Profile("!" + ReactiveConfiguration.PROFILE)
+public class LatencyMetricsAspect {
+    public static final String CONTROLLER_TIMER = "customers.controller";
+    public static final String SERVICE_TIMER = "customers.service";
+
+    public static final String OUTCOME_OK = "ok";
+    public static final String OUTCOME_NOT_FOUND = "not_found";
+    public static final String OUTCOME_VALIDATION_ERROR = "validation_error";
+    public static final String OUTCOME_PRECONDITION_FAILED = "precondition_failed";
+    public static final String OUTCOME_CONFLICT = "conflict";
+    public static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    public LatencyMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.mysite.customers.controller.CustomerController.*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(CONTROLLER_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * com.mysite.customers.service.ICustomerService+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    private Object time(String timerName, ProceedingJoinPoint joinPoint) throws Throwable {
+        var sample = Timer.start(meterRegistry);
+        var outcome = OUTCOME_OK;
+
+        try {
+            return joinPoint.proceed();
+        } catch (NotFoundException ex) {
+            outcome = OUTCOME_NOT_FOUND;
+
+            throw ex;
+        } catch (ValidationException ex) {
+            outcome = OUTCOME_VALIDATION_ERROR;
+
+            throw ex;
+        } catch (PreconditionFailedException ex) {
+            outcome = OUTCOME_PRECONDITION_FAILED;
+
+            throw ex;
+        } catch (OptimisticLockingFailureException ex) {
+            outcome = OUTCOME_CONFLICT;
+
+            throw ex;
+        } catch (Throwable ex) {
+            outcome = OUTCOME_ERROR;
+
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(timerName)
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.mysite.customers.middleware;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.dto.validation.ValidationErrorsDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+/*
+ * WebFlux counterpart of GlobalExceptionHandler, produces the same error responses.
+ */
+@ControllerAdvice
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveGlobalExceptionHandler {
+
+    Logger logger = LoggerFactory.getLogger(ReactiveGlobalExceptionHandler.class);
+
+    @ExceptionHandler({NotFoundException.class})
+    public ResponseEntity<String> handleNotFoundException(NotFoundException ex, ServerHttpRequest request) {
+        logger.error("Not found exception: {}. Request: {} {}", ex.getMessage(), request.getMethod(), request.getURI());
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler({OptimisticLockingFailureException.class})
+    public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex, ServerHttpRequest request) {
+        logger.error("Optimistic locking failure exception: {}. Request: {} {}", ex.getMessage(), request.getMethod(), request.getURI());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("Customer was changed by a concurrent request, please retry.");
+    }
+
+    @ExceptionHandler({ValidationException.class})
+    public ResponseEntity<ValidationErrorsDto> handleValidationException(ValidationException ex, ServerHttpRequest request) throws JsonProcessingException {
+        var errorsStr = new ObjectMapper().writeValueAsString(ex.getErrors());
+
+        logger.error("Validation exception: {}. Request: {} {}", errorsStr, request.getMethod(), request.getURI());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ValidationErrorsDto(ex.getErrors()));
+    }
+
+}
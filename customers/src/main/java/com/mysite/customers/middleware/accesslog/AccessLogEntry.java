@@ -0,0 +1,15 @@
+package com.mysite.customers.middleware.accesslog;
+
+/*
+ * Values are collected on the request thread, formatting is left to the AccessLogWriter thread.
+ * Payload is only set for failed requests.
+ */
+public record AccessLogEntry(
+        String method,
+        String path,
+        String query,
+        int status,
+        long durationMicros,
+        long requestBytes,
+        long responseBytes,
+        byte[] payload) { }
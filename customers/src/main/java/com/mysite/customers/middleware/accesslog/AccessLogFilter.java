@@ -0,0 +1,314 @@
+package com.mysite.customers.middleware.accesslog;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Records method, path, status, duration and request / response byte counts of every request and hands them to the AccessLogWriter.
+ * Bodies are not cached: byte counts are taken while the application reads / writes the streams, and only the first
+ * "maxPayloadLength" request body bytes are kept, so they can be logged if the request fails.
+ * An asynchronous request (e.g. the event stream) is logged when its async context completes, with its final status,
+ * duration and byte counts; the async dispatches in between are not filtered.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+    private final AccessLogWriter accessLogWriter;
+    private final double sampleRate;
+    private final int maxPayloadLength;
+
+    public AccessLogFilter(AccessLogWriter accessLogWriter, double sampleRate, int maxPayloadLength) {
+        this.accessLogWriter = accessLogWriter;
+        this.sampleRate = sampleRate;
+        this.maxPayloadLength = maxPayloadLength;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var startTime = System.nanoTime();
+        var countingRequest = new CountingRequestWrapper(request, maxPayloadLength);
+        var countingResponse = new CountingResponseWrapper(response);
+        var failedWithException = false;
+
+        try {
+            filterChain.doFilter(countingRequest, countingResponse);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            failedWithException = true;
+
+            throw ex;
+        } finally {
+            if (!failedWithException && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        log(request, countingRequest, countingResponse, countingResponse.getStatus(), startTime);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                // An exception that reaches the container is turned into a 500 response after this filter.
+                log(request, countingRequest, countingResponse, failedWithException ? HttpStatus.INTERNAL_SERVER_ERROR.value() : countingResponse.getStatus(), startTime);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, CountingRequestWrapper countingRequest, CountingResponseWrapper countingResponse, int status, long startTime) {
+        var failed = status >= HttpStatus.BAD_REQUEST.value();
+
+        if (failed || isSampled()) {
+            accessLogWriter.offer(new AccessLogEntry(
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    request.getQueryString(),
+                    status,
+                    (System.nanoTime() - startTime) / 1000,
+                    countingRequest.getByteCount(),
+                    countingResponse.getByteCount(),
+                    failed ? countingRequest.getPayload() : null));
+        }
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static class CountingRequestWrapper extends HttpServletRequestWrapper {
+        private final int maxPayloadLength;
+        private CountingInputStream inputStream;
+        private BufferedReader reader;
+
+        CountingRequestWrapper(HttpServletRequest request, int maxPayloadLength) {
+            super(request);
+            this.maxPayloadLength = maxPayloadLength;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new CountingInputStream(super.getInputStream(), maxPayloadLength, getContentLengthLong());
+            }
+
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                var characterEncoding = getCharacterEncoding();
+
+                reader = new BufferedReader(characterEncoding == null
+                        ? new InputStreamReader(getInputStream())
+                        : new InputStreamReader(getInputStream(), characterEncoding));
+            }
+
+            return reader;
+        }
+
+        long getByteCount() {
+            return inputStream == null ? 0 : inputStream.byteCount;
+        }
+
+        byte[] getPayload() {
+            return inputStream == null || inputStream.payload == null ? null : Arrays.copyOf(inputStream.payload, inputStream.payloadLength);
+        }
+    }
+
+    private static class CountingInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private final int maxPayloadLength;
+        private final long contentLength;
+        private long byteCount;
+        private byte[] payload;
+        private int payloadLength;
+
+        CountingInputStream(ServletInputStream delegate, int maxPayloadLength, long contentLength) {
+            this.delegate = delegate;
+            this.maxPayloadLength = maxPayloadLength;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var value = delegate.read();
+
+            if (value != -1) {
+                byteCount++;
+
+                if (reserve(1) == 1) payload[payloadLength++] = (byte) value;
+            }
+
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var readCount = delegate.read(buffer, offset, length);
+
+            if (readCount > 0) {
+                capture(buffer, offset, readCount);
+            }
+
+            return readCount;
+        }
+
+        private void capture(byte[] buffer, int offset, int length) {
+            byteCount += length;
+
+            var captureLength = reserve(length);
+
+            if (captureLength <= 0) return;
+
+            System.arraycopy(buffer, offset, payload, payloadLength, captureLength);
+            payloadLength += captureLength;
+        }
+
+        /*
+         * Makes room for the next bytes read and returns how many of them are kept.
+         * The buffer is sized by the content length when it is known, and only grows (up to maxPayloadLength) when it is not.
+         */
+        private int reserve(int length) {
+            var captureLength = Math.min(length, maxPayloadLength - payloadLength);
+
+            if (captureLength <= 0) return 0;
+
+            if (payload == null) {
+                payload = new byte[(int) Math.min(maxPayloadLength, contentLength > 0 ? contentLength : length)];
+            }
+
+            if (payloadLength + captureLength > payload.length) {
+                payload = Arrays.copyOf(payload, Math.min(maxPayloadLength, Math.max(payload.length * 2, payloadLength + captureLength)));
+            }
+
+            return captureLength;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+
+    private static class CountingResponseWrapper extends HttpServletResponseWrapper {
+        private CountingOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+
+            super.flushBuffer();
+        }
+
+        long getByteCount() {
+            if (writer != null) {
+                writer.flush();
+            }
+
+            return outputStream == null ? 0 : outputStream.byteCount;
+        }
+    }
+
+    private static class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private long byteCount;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            delegate.write(value);
+            byteCount++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            delegate.write(buffer, offset, length);
+            byteCount += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
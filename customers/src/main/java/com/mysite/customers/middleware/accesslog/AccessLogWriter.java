@@ -0,0 +1,122 @@
+package com.mysite.customers.middleware.accesslog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Writes access log entries from a single background thread.
+ * Request threads only add entries to a lock-free queue, the queue is bounded by a separate size counter:
+ * when it is full, the entry is dropped (and counted in "customers.access_log.dropped") instead of blocking the request.
+ */
+public class AccessLogWriter implements SmartLifecycle {
+
+    Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    /**
+     * How long the writer thread sleeps when the queue is empty, request threads never have to wake it up.
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ConcurrentLinkedQueue<AccessLogEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final int queueCapacity;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AccessLogWriter(int queueCapacity, MeterRegistry meterRegistry) {
+        this.queueCapacity = queueCapacity;
+        this.droppedCounter = Counter.builder("customers.access_log.dropped")
+                .description("Access log entries dropped because the writer queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds the entry to the queue without blocking.
+     * @return false if the queue was full and the entry was dropped
+     */
+    public boolean offer(AccessLogEntry entry) {
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            droppedCounter.increment();
+
+            return false;
+        }
+
+        queue.offer(entry);
+
+        return true;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+
+        writerThread = new Thread(this::writeEntries, "access-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /*
+     * Entries that are already in the queue are still written before the writer thread stops.
+     */
+    @Override
+    public void stop() {
+        running = false;
+
+        LockSupport.unpark(writerThread);
+
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeEntries() {
+        while (running || !queue.isEmpty()) {
+            var entry = queue.poll();
+
+            if (entry == null) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+
+                continue;
+            }
+
+            queueSize.decrementAndGet();
+
+            write(entry);
+        }
+    }
+
+    private void write(AccessLogEntry entry) {
+        if (entry.payload() == null) {
+            logger.info("method={} path={} query={} status={} durationMicros={} requestBytes={} responseBytes={}",
+                    entry.method(), entry.path(), entry.query(), entry.status(), entry.durationMicros(), entry.requestBytes(), entry.responseBytes());
+
+            return;
+        }
+
+        var payload = new String(entry.payload(), StandardCharsets.UTF_8)
+                .replace("\r", "\\r")
+                .replace("\n", "\\n");
+
+        logger.info("method={} path={} query={} status={} durationMicros={} requestBytes={} responseBytes={} payload=\"{}\"",
+                entry.method(), entry.path(), entry.query(), entry.status(), entry.durationMicros(), entry.requestBytes(), entry.responseBytes(), payload);
+    }
+}
@@ -0,0 +1,69 @@
+package com.mysite.customers.repository;
+
+import com.mysite.customers.config.ReactiveConfiguration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Allocates customer IDs for the reactive stack from customer_seq the same way Hibernate's pooled optimizer does for the entity:
+ * every sequence value "hi" reserves the IDs (hi - 50, hi], so both stacks can insert into the same table without collisions
+ * and the sequence is only queried once per 50 new customers.
+ */
+@Component
+@Profile(ReactiveConfiguration.PROFILE)
+public class CustomerIdGenerator {
+    /**
+     * Must match "INCREMENT BY" of customer_seq (and the entity's allocation size).
+     */
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+    private final AtomicReference<IdBlock> currentBlock = new AtomicReference<>(new IdBlock(1, 0));
+
+    public CustomerIdGenerator(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Long> nextId() {
+        var id = currentBlock.get().next();
+
+        if (id != null) return Mono.just(id);
+
+        /*
+         * Concurrent callers that find the block used up each reserve a new one, the IDs left over in the replaced blocks are skipped.
+         * The first sequence value is 1, that block only contains the ID 1.
+         */
+        return databaseClient.sql("SELECT NEXT VALUE FOR customer_seq")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(hi -> {
+                    var block = new IdBlock(Math.max(1, hi - ALLOCATION_SIZE + 1), hi);
+                    var newId = block.next();
+
+                    currentBlock.set(block);
+
+                    return newId;
+                });
+    }
+
+    private static final class IdBlock {
+        private final AtomicLong nextId;
+        private final long lastId;
+
+        private IdBlock(long firstId, long lastId) {
+            this.nextId = new AtomicLong(firstId);
+            this.lastId = lastId;
+        }
+
+        private Long next() {
+            var id = nextId.getAndIncrement();
+
+            return id <= lastId ? id : null;
+        }
+    }
+}
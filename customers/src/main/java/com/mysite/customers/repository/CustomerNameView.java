@@ -0,0 +1,11 @@
+package com.mysite.customers.repository;
+
+/*
+ * Projection of only the customer name columns, used to load the name index without loading whole entities.
+ * The version orders the loaded names against changes applied to the index at the same time.
+ */
+public record CustomerNameView(
+        Long id,
+        String firstName,
+        String lastName,
+        long version) { }
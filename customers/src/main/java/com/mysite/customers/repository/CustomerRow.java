@@ -0,0 +1,23 @@
+package com.mysite.customers.repository;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/*
+ * Customer table row used by the reactive (R2DBC) stack, which cannot map the JPA entity.
+ * Rows are only built from values that passed CustomerFactory, so the Customer entity rules still apply.
+ * ID and date+time fields are filled in by CustomerRowCallback.
+ * The version is checked and incremented by Spring Data on every update, like the JPA entity's @Version.
+ */
+@Table("customer")
+public record CustomerRow(
+        @Id Long id,
+        String firstName,
+        String lastName,
+        String email,
+        LocalDateTime createdDtime,
+        LocalDateTime modifiedDtime,
+        @Version Long version) { }
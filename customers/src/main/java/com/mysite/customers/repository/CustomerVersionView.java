@@ -0,0 +1,10 @@
+package com.mysite.customers.repository;
+
+import java.util.Date;
+
+/*
+ * Projection of only the columns needed for conditional requests (ETag and Last-Modified), without loading whole entities.
+ */
+public record CustomerVersionView(
+        long version,
+        Date modifiedDtime) { }
@@ -1,7 +1,108 @@
 package com.mysite.customers.repository;
 
 import com.mysite.customers.domain.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface ICustomerRepository extends CrudRepository<Customer, Long> {
-}
\ No newline at end of file
+    /**
+     * Queries only the version and the last modification time of a customer, without loading the entity.
+     * The result is kept in the query cache until the customer table is changed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.mysite.customers.repository.CustomerVersionView(c.version, c.modifiedDtime) from Customer c where c.id = :id")
+    Optional<CustomerVersionView> findVersionById(long id);
+
+    /**
+     * Saves the customer and flushes it right away, so the incremented version is known
+     * and a concurrent modification is reported (as ObjectOptimisticLockingFailureException) by this call.
+     */
+    <S extends Customer> S saveAndFlush(S customer);
+
+    /**
+     * Uses the ix_customer_email index.
+     * The query cache keeps only the IDs of the result, the customers themselves are read from the second-level cache.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Customer> findByEmailOrderByIdAsc(String email);
+
+    /**
+     * Keyset pagination: WHERE id > :id ORDER BY id LIMIT :limit.
+     * Uses the primary key index, so the cost of a page does not depend on how deep into the table it is.
+     * Scanned customers bypass the second-level cache, so paging through the table does not evict the customers being read by ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    List<Customer> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    /**
+     * Streams all customers ordered by ID through a forward-only JDBC cursor.
+     * H2 reads the whole result before returning the first row unless lazy query execution is enabled for the session
+     * (SET LAZY_QUERY_EXECUTION TRUE), the caller has to enable it to read the customers in constant memory.
+     * Must be called inside a transaction and the returned stream must be closed.
+     * A cache mode hint only applies while the query is executed, not while the stream is read,
+     * the caller has to set the cache mode of the session to keep the streamed customers out of the second-level cache.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Customer> streamAllByOrderByIdAsc();
+
+    /**
+     * Streams the names of all customers through a forward-only JDBC cursor.
+     * H2 reads the whole result before returning the first row, unless lazy query execution is enabled for the session.
+     * Must be called inside a transaction and the returned stream must be closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.mysite.customers.repository.CustomerNameView(c.id, c.firstName, c.lastName, c.version) from Customer c")
+    Stream<CustomerNameView> streamAllNames();
+
+    /**
+     * Updates only the given (non-null) values and the modification time of a customer and increments its version,
+     * and returns the updated row from the same statement (H2 data change delta table),
+     * so a partial update is one round trip instead of a SELECT followed by an UPDATE of every column.
+     * Hibernate does not know what a native query changes, the caller has to evict the customer from the second-level cache.
+     * @param expectedVersion version the customer must have to be updated, null to update any version
+     * @return updated customer, empty if customer was not found or did not have the expected version
+     */
+    @Query(value = "SELECT * FROM FINAL TABLE (UPDATE customer SET " +
+            "first_name = COALESCE(CAST(:firstName AS VARCHAR), first_name), " +
+            "last_name = COALESCE(CAST(:lastName AS VARCHAR), last_name), " +
+            "email = COALESCE(CAST(:email AS VARCHAR), email), " +
+            "modified_dtime = :modifiedDtime, " +
+            "version = version + 1 " +
+            "WHERE id = :id AND (CAST(:expectedVersion AS BIGINT) IS NULL OR version = :expectedVersion))",
+            nativeQuery = true)
+    Optional<Customer> patchById(long id, String firstName, String lastName, String email, Date modifiedDtime, Long expectedVersion);
+
+    /**
+     * Deletes a customer with a single DELETE statement, without loading it first,
+     * and returns the deleted row from the same statement (H2 data change delta table).
+     * Hibernate does not know what a native query changes, the caller has to evict the customer from the second-level cache.
+     * @param expectedVersion version the customer must have to be deleted, null to delete any version
+     * @return deleted customer, empty if customer was not found or did not have the expected version
+     */
+    @Query(value = "SELECT * FROM OLD TABLE (DELETE FROM customer " +
+            "WHERE id = :id AND (CAST(:expectedVersion AS BIGINT) IS NULL OR version = :expectedVersion))",
+            nativeQuery = true)
+    Optional<Customer> deleteCustomerById(long id, Long expectedVersion);
+
+    /**
+     * Deletes all customers with the given IDs with a single DELETE statement,
+     * returning the deleted rows from the same statement (H2 data change delta table).
+     * Hibernate does not know what a native query changes, the caller has to evict the customers from the second-level cache.
+     * @return deleted customers, the given IDs which are missing were not found
+     */
+    @Query(value = "SELECT * FROM OLD TABLE (DELETE FROM customer WHERE id IN (:ids))", nativeQuery = true)
+    List<Customer> deleteCustomersByIds(Collection<Long> ids);
+}
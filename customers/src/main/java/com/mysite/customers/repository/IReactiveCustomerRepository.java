@@ -0,0 +1,16 @@
+package com.mysite.customers.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveCustomerRepository extends R2dbcRepository<CustomerRow, Long> {
+    /**
+     * Deletes a customer with a single statement.
+     * @return number of deleted rows, 0 if the customer did not exist
+     */
+    @Modifying
+    @Query("DELETE FROM customer WHERE id = :id")
+    Mono<Integer> deleteCustomerById(long id);
+}
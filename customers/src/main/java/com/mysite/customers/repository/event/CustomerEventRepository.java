@@ -0,0 +1,158 @@
+package com.mysite.customers.repository.event;
+
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.event.CustomerEventDto;
+import com.mysite.customers.dto.event.CustomerEventType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox of customer changes (customer_event table) and the delivery positions of the event sinks (customer_event_sink table).
+ * <p>
+ * Plain JDBC: the events are written in the transaction of the customer change they describe,
+ * and read, sequenced and pruned by the dispatcher without going through the persistence context.
+ * Events are inserted without a sequence number, it is assigned by the dispatcher once they are committed.
+ */
+@Repository
+@Profile("!" + ReactiveConfiguration.PROFILE)
+public class CustomerEventRepository {
+    private static final RowMapper<CustomerEventDto> EVENT_ROW_MAPPER = (resultSet, rowNumber) -> {
+        var customerId = resultSet.getLong("customer_id");
+        var customerVersion = resultSet.getLong("customer_version");
+
+        return new CustomerEventDto(
+                resultSet.getLong("seq"),
+                CustomerEventType.valueOf(resultSet.getString("type")),
+                customerId,
+                customerVersion,
+                resultSet.getTimestamp("created_dtime").toInstant(),
+                new CustomerDto(customerId, resultSet.getString("first_name"), resultSet.getString("last_name"), resultSet.getString("email"), customerVersion,
+                        resultSet.getTimestamp("customer_modified_dtime").getTime()));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomerEventRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts one event per customer with a single JDBC batch, in the caller's transaction.
+     */
+    public void insert(CustomerEventType type, Collection<CustomerDto> customers, Instant createdTime) {
+        var createdDtime = Timestamp.from(createdTime);
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO customer_event (type, customer_id, first_name, last_name, email, customer_version, customer_modified_dtime, created_dtime) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                customers,
+                customers.size(),
+                (statement, customer) -> {
+                    statement.setString(1, type.name());
+                    statement.setLong(2, customer.id());
+                    statement.setString(3, customer.firstName());
+                    statement.setString(4, customer.lastName());
+                    statement.setString(5, customer.email());
+                    statement.setLong(6, customer.version());
+                    statement.setTimestamp(7, new Timestamp(customer.modifiedTime()));
+                    statement.setTimestamp(8, createdDtime);
+                });
+    }
+
+    /**
+     * @return IDs of committed events without a sequence number, in insertion order
+     */
+    public List<Long> findUnsequencedIds(int limit) {
+        return jdbcTemplate.queryForList("SELECT id FROM customer_event WHERE seq IS NULL ORDER BY id FETCH FIRST ? ROWS ONLY", Long.class, limit);
+    }
+
+    /**
+     * The newest event is never pruned, so the sequence continues after it also when everything else was deleted.
+     * @return highest assigned sequence number, 0 if there is none
+     */
+    public long findLastSeq() {
+        var lastSeq = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM customer_event", Long.class);
+
+        return lastSeq == null ? 0 : lastSeq;
+    }
+
+    /**
+     * Numbers the given events consecutively, starting with firstSeq.
+     * @return false if an event already had a sequence number (assigned by another dispatcher), the caller has to roll back
+     */
+    public boolean assignSeq(List<Long> ids, long firstSeq) {
+        var updateCounts = jdbcTemplate.batchUpdate("UPDATE customer_event SET seq = ? WHERE id = ? AND seq IS NULL", new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                statement.setLong(1, firstSeq + index);
+                statement.setLong(2, ids.get(index));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+
+        for (var updateCount : updateCounts) {
+            if (updateCount == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Range scan of the ux_customer_event_seq index.
+     * @return sequenced events after the given sequence number, in sequence order
+     */
+    public List<CustomerEventDto> findAfter(long seq, int limit) {
+        return jdbcTemplate.query(
+                "SELECT seq, type, customer_id, first_name, last_name, email, customer_version, customer_modified_dtime, created_dtime " +
+                        "FROM customer_event WHERE seq > ? ORDER BY seq FETCH FIRST ? ROWS ONLY",
+                EVENT_ROW_MAPPER,
+                seq,
+                limit);
+    }
+
+    /**
+     * Deletes at most "limit" events up to the given sequence number that were created before the given time,
+     * in the caller's (or its own) transaction. Only sequenced rows qualify, so concurrent writers are never blocked.
+     * @return number of deleted events, less than the limit when there are no more to delete
+     */
+    public int deleteDelivered(long upToSeq, Instant createdBefore, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM customer_event WHERE seq <= ? AND created_dtime < ? FETCH FIRST ? ROWS ONLY",
+                upToSeq,
+                Timestamp.from(createdBefore),
+                limit);
+    }
+
+    /**
+     * @return last delivered sequence number by sink name
+     */
+    public Map<String, Long> findSinkPositions() {
+        var positions = new HashMap<String, Long>();
+
+        jdbcTemplate.query("SELECT name, delivered_seq FROM customer_event_sink", resultSet -> {
+            positions.put(resultSet.getString("name"), resultSet.getLong("delivered_seq"));
+        });
+
+        return positions;
+    }
+
+    public void saveSinkPosition(String name, long deliveredSeq) {
+        jdbcTemplate.update("MERGE INTO customer_event_sink (name, delivered_seq) KEY (name) VALUES (?, ?)", name, deliveredSeq);
+    }
+}
@@ -0,0 +1,45 @@
+package com.mysite.customers.repository.storage;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * Fingerprint of the Liquibase changelog last applied to the database, kept in the single row of the changelog_fingerprint table.
+ * Plain JDBC on the data source Liquibase migrates, it is used before the schema (and JPA) is known to be up to date.
+ */
+public class ChangelogFingerprintRepository {
+    public static final String TABLE = "changelog_fingerprint";
+
+    private static final int ROW_ID = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangelogFingerprintRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @return the recorded fingerprint, empty when the table has not been created yet (an empty or older database)
+     */
+    public Optional<String> find() {
+        var tableCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND LOWER(TABLE_NAME) = ?",
+                Integer.class,
+                TABLE);
+
+        if (tableCount == null || tableCount == 0) return Optional.empty();
+
+        return jdbcTemplate.queryForList("SELECT fingerprint FROM " + TABLE + " WHERE id = ?", String.class, ROW_ID)
+                .stream()
+                .findFirst();
+    }
+
+    public void record(String fingerprint) {
+        jdbcTemplate.update(
+                "MERGE INTO " + TABLE + " (id, fingerprint, recorded_dtime) KEY (id) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                ROW_ID,
+                fingerprint);
+    }
+}
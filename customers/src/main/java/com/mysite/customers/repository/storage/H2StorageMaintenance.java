@@ -0,0 +1,108 @@
+package com.mysite.customers.repository.storage;
+
+import com.mysite.customers.config.CustomerStorageProperties;
+import com.mysite.customers.config.PersistentStorageConfiguration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.h2.engine.SessionLocal;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Compacts the H2 database file on a schedule and publishes its size and fill rate as metrics.
+ * <p>
+ * MVStore never overwrites data in place: every write appends new chunks, and the chunks of replaced rows are only freed
+ * once nothing refers to them any more. The file keeps growing when the freed space is not reused, so partially live chunks
+ * are rewritten here, bounded by a write budget, instead of only at shutdown (MAX_COMPACT_TIME) when the file is largest.
+ * H2 offers no SQL statement for online compaction, the store is reached through the H2 session of a pooled connection.
+ * The metrics are sampled from the store on a schedule (and after every compaction) and the gauges read the last sample,
+ * so scraping them does not take connections from the pool.
+ */
+@Component
+@Profile(PersistentStorageConfiguration.PROFILE)
+public class H2StorageMaintenance implements MeterBinder {
+
+    Logger logger = LoggerFactory.getLogger(H2StorageMaintenance.class);
+
+    private final DataSource dataSource;
+    private final CustomerStorageProperties storageProperties;
+
+    private volatile StorageSample sample = new StorageSample(Double.NaN, Double.NaN, Double.NaN);
+
+    public H2StorageMaintenance(DataSource dataSource, CustomerStorageProperties storageProperties) {
+        this.dataSource = dataSource;
+        this.storageProperties = storageProperties;
+    }
+
+    @Scheduled(cron = "${customers.storage.compaction-cron}")
+    public void compact() throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            var store = getStore(connection.unwrap(JdbcConnection.class));
+            var fileStore = store.getFileStore();
+            var sizeBefore = fileStore.size();
+            var fillRateBefore = fileStore.getChunksFillRate();
+            var startTime = System.nanoTime();
+
+            var compacted = store.compact(storageProperties.getCompactionTargetFillRate(), storageProperties.getCompactionMaxWriteBytes());
+
+            logger.info("Database file compaction {} in {} ms: chunks fill rate {}% -> {}%, file size {} -> {} bytes.",
+                    compacted ? "rewrote chunks" : "rewrote nothing",
+                    (System.nanoTime() - startTime) / 1_000_000,
+                    fillRateBefore,
+                    fileStore.getChunksFillRate(),
+                    sizeBefore,
+                    fileStore.size());
+
+            sample = StorageSample.of(store);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${customers.storage.metrics-sample-interval-ms}")
+    public void sampleMetrics() throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            sample = StorageSample.of(getStore(connection.unwrap(JdbcConnection.class)));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("customers.storage.file.size", this, maintenance -> maintenance.sample.fileSize())
+                .description("Size of the database file")
+                .baseUnit("bytes")
+                .register(registry);
+
+        Gauge.builder("customers.storage.fill.rate", this, maintenance -> maintenance.sample.fillRate())
+                .description("Share of live data in the chunks of the database file")
+                .baseUnit("percent")
+                .register(registry);
+
+        Gauge.builder("customers.storage.cache.used", this, maintenance -> maintenance.sample.cacheUsed())
+                .description("Used part of the database page cache")
+                .baseUnit("megabytes")
+                .register(registry);
+    }
+
+    private static MVStore getStore(JdbcConnection connection) {
+        return ((SessionLocal) connection.getSession()).getDatabase().getStore().getMvStore();
+    }
+
+    /*
+     * NaN until the first sample is taken.
+     */
+    private record StorageSample(double fileSize, double fillRate, double cacheUsed) {
+        private static StorageSample of(MVStore store) {
+            var fileStore = store.getFileStore();
+
+            return new StorageSample(fileStore.size(), fileStore.getChunksFillRate(), store.getCacheSizeUsed());
+        }
+    }
+}
@@ -2,10 +2,24 @@ package com.mysite.customers.service;
 
 import com.mysite.customers.dto.CustomerDataDto;
 import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerLookupDto;
+import com.mysite.customers.dto.CustomerNameSuggestionDto;
+import com.mysite.customers.dto.CustomerPageDto;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.dto.CustomerVersionDto;
+import com.mysite.customers.dto.batch.BatchCreateResultDto;
+import com.mysite.customers.dto.batch.BatchDeleteResultDto;
+import com.mysite.customers.dto.batch.ImportResultDto;
+import com.mysite.customers.dto.reader.CustomerDataRow;
 import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
 import com.mysite.customers.exception.ValidationException;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface ICustomerService {
     /**
      * Tries to find a customer by its ID.
@@ -15,6 +29,59 @@ public interface ICustomerService {
      */
     CustomerDto findById(long id) throws NotFoundException;
 
+    /**
+     * Finds all customers with the given IDs at once, duplicate IDs are ignored.
+     * Cached customers are served from the cache, the rest are queried in bounded chunks.
+     * @param ids customers' IDs
+     * @return found customers in the order of the given IDs together with the given IDs which were not found
+     * @throws IllegalArgumentException if IDs list is null or contains null items
+     * @throws ValidationException if the number of distinct IDs is out of allowed range
+     */
+    CustomerLookupDto findByIds(@NotNull List<Long> ids) throws IllegalArgumentException, ValidationException;
+
+    /**
+     * Tries to find the version and the last modification time of a customer by its ID, without loading the customer itself.
+     * @param id customer's ID
+     * @return version and last modification time (in milliseconds since the epoch)
+     * @throws NotFoundException if customer was not found
+     */
+    CustomerVersionDto getVersion(long id) throws NotFoundException;
+
+    /**
+     * Finds all customers with the given e-mail address.
+     * The e-mail address is matched case-insensitively.
+     * @param email customer's e-mail address
+     * @return DTOs of matching customers ordered by ID, empty list if there are none
+     * @throws IllegalArgumentException if e-mail is null
+     */
+    List<CustomerDto> findByEmail(@NotNull String email) throws IllegalArgumentException;
+
+    /**
+     * Suggests customers whose first or last name starts with the given text (case-insensitively).
+     * Suggestions are served from an in-memory name index, the database is not queried.
+     * @param query beginning of a first or last name
+     * @param limit maximum number of suggestions, null for the default limit
+     * @return suggested customers ordered by the matching name
+     * @throws ValidationException if the query is empty or the limit is out of allowed range
+     */
+    List<CustomerNameSuggestionDto> suggest(String query, Integer limit) throws ValidationException;
+
+    /**
+     * Finds a page of customers ordered by ID, starting after the position given by the cursor.
+     * @param cursor opaque cursor from a previous page, null for the first page
+     * @param limit maximum number of customers on the page, null for the default page size
+     * @return customer page with the cursor for the next page
+     * @throws ValidationException if the cursor is malformed or the limit is out of allowed range
+     */
+    CustomerPageDto findPage(String cursor, Integer limit) throws ValidationException;
+
+    /**
+     * Passes every customer, ordered by ID, to the given consumer one at a time.
+     * Customers are read through a database cursor, so memory usage does not depend on the number of customers.
+     * @param customerConsumer consumer of the customer DTOs
+     */
+    void exportAll(@NotNull Consumer<CustomerDto> customerConsumer);
+
     /**
      * Tries to create a new customer.
      * @param newCustomerDataDto new customer data
@@ -24,21 +91,67 @@ public interface ICustomerService {
      */
     CustomerDto create(@NotNull CustomerDataDto newCustomerDataDto) throws IllegalArgumentException, ValidationException;
 
+    /**
+     * Tries to create multiple new customers.
+     * Every item is validated separately, all valid customers are persisted in a single transaction.
+     * @param newCustomersDataDtos new customers' data
+     * @return per-item results (created customer or validation errors) in the same order as the given data
+     * @throws IllegalArgumentException if the customer data DTO list is null or contains null items
+     */
+    BatchCreateResultDto createBatch(@NotNull List<CustomerDataDto> newCustomersDataDtos) throws IllegalArgumentException;
+
+    /**
+     * Imports customers from the given rows, which are consumed one at a time.
+     * Valid rows are saved in chunks, every chunk is committed in its own transaction,
+     * so a failing chunk does not roll back the chunks committed before it.
+     * @param rows rows to import
+     * @return accepted and rejected row counts together with the rejected rows' validation errors
+     * @throws IllegalArgumentException if rows iterator is null
+     */
+    ImportResultDto importCustomers(@NotNull Iterator<CustomerDataRow> rows) throws IllegalArgumentException;
+
     /**
      * Tires to update an existing customer.
      * @param id customer's ID
      * @param updatedCustomerDataDto updated customer data
+     * @param expectedVersion version the customer must have to be updated, null to update any version
      * @return DTO for updated customer entity
      * @throws IllegalArgumentException if customer data DTO is null
      * @throws NotFoundException if customer to be updated was not found
      * @throws ValidationException if any of the customer properties do not pass business and/or data model restriction validations
+     * @throws PreconditionFailedException if customer does not have the expected version
      */
-    CustomerDto update(long id, @NotNull CustomerDataDto updatedCustomerDataDto) throws IllegalArgumentException, NotFoundException, ValidationException;
+    CustomerDto update(long id, @NotNull CustomerDataDto updatedCustomerDataDto, Long expectedVersion) throws IllegalArgumentException, NotFoundException, ValidationException, PreconditionFailedException;
+
+    /**
+     * Tries to update only the given properties of an existing customer.
+     * Properties that are null in the patch are left unchanged, an empty patch returns the customer as it is.
+     * @param id customer's ID
+     * @param customerPatchDto properties to update
+     * @param expectedVersion version the customer must have to be updated, null to update any version
+     * @return DTO for updated customer entity
+     * @throws IllegalArgumentException if customer patch DTO is null
+     * @throws NotFoundException if customer to be updated was not found
+     * @throws ValidationException if any of the given properties do not pass business and/or data model restriction validations
+     * @throws PreconditionFailedException if customer does not have the expected version
+     */
+    CustomerDto patch(long id, @NotNull CustomerPatchDto customerPatchDto, Long expectedVersion) throws IllegalArgumentException, NotFoundException, ValidationException, PreconditionFailedException;
 
     /**
      * Tries to delete a customer by its ID.
      * @param id customer's ID
+     * @param expectedVersion version the customer must have to be deleted, null to delete any version
      * @throws NotFoundException if customer to be deleted was not found
+     * @throws PreconditionFailedException if customer does not have the expected version
+     */
+    void deleteById(long id, Long expectedVersion) throws NotFoundException, PreconditionFailedException;
+
+    /**
+     * Deletes all customers with the given IDs at once, duplicate IDs are ignored.
+     * @param ids customers' IDs
+     * @return number of deleted customers together with the given IDs which were not found
+     * @throws IllegalArgumentException if IDs list is null or contains null items
+     * @throws ValidationException if the number of distinct IDs is out of allowed range
      */
-    void deleteById(long id) throws NotFoundException;
+    BatchDeleteResultDto deleteByIds(@NotNull List<Long> ids) throws IllegalArgumentException, ValidationException;
 }
@@ -0,0 +1,45 @@
+package com.mysite.customers.service;
+
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.ValidationException;
+import jakarta.validation.constraints.NotNull;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the {@link ICustomerService} CRUD operations, used by the "reactive" profile.
+ * Errors are signalled through the returned Mono instead of being thrown.
+ */
+public interface IReactiveCustomerService {
+    /**
+     * Tries to find a customer by its ID.
+     * @param id customer's ID
+     * @return customer DTO, or a {@link NotFoundException} error if customer was not found
+     */
+    Mono<CustomerDto> findById(long id);
+
+    /**
+     * Tries to create a new customer.
+     * @param newCustomerDataDto new customer's data
+     * @return DTO of created customer, or a {@link ValidationException} error if the data did not pass validation
+     * @throws IllegalArgumentException if new customer data DTO is null
+     */
+    Mono<CustomerDto> create(@NotNull CustomerDataDto newCustomerDataDto) throws IllegalArgumentException;
+
+    /**
+     * Tries to update an existing customer.
+     * @param id customer's ID
+     * @param updatedCustomerDataDto customer's updated data
+     * @return DTO of updated customer, or a {@link NotFoundException} / {@link ValidationException} error
+     * @throws IllegalArgumentException if updated customer data DTO is null
+     */
+    Mono<CustomerDto> update(long id, @NotNull CustomerDataDto updatedCustomerDataDto) throws IllegalArgumentException;
+
+    /**
+     * Tries to delete a customer by its ID.
+     * @param id customer's ID
+     * @return empty Mono, or a {@link NotFoundException} error if customer was not found
+     */
+    Mono<Void> deleteById(long id);
+}
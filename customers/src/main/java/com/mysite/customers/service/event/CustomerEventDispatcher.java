@@ -0,0 +1,291 @@
+package com.mysite.customers.service.event;
+
+import com.mysite.customers.config.CustomerEventProperties;
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.repository.event.CustomerEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drains the customer_event outbox table to the {@link ICustomerEventSink} beans from a single background thread.
+ * <p>
+ * Writers insert events without a sequence number, because the order of their IDs is not the order in which they become visible.
+ * The dispatcher numbers the committed events gap-free in ID order, in its own short transaction,
+ * and then hands every sink the events after its position in batches, advancing the position only when the sink returned normally.
+ * Events of the same customer are always numbered in commit order: the event is inserted while the changed customer row is locked,
+ * so the event of a later change gets a higher ID and cannot be committed before the earlier one.
+ * <p>
+ * Delivered events older than the retention are deleted in small batches of short transactions.
+ * Only sequenced rows are deleted, writers only insert new ones, so pruning never blocks a writer.
+ */
+@Component
+@Profile("!" + ReactiveConfiguration.PROFILE)
+public class CustomerEventDispatcher implements SmartLifecycle {
+
+    Logger logger = LoggerFactory.getLogger(CustomerEventDispatcher.class);
+
+    private final CustomerEventRepository eventRepository;
+    private final ObjectProvider<ICustomerEventSink> sinkProvider;
+    private final CustomerEventProperties eventProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter prunedCounter;
+
+    private volatile boolean running;
+    private volatile long lastSeq;
+    private volatile List<SinkState> sinks = List.of();
+    private Thread dispatcherThread;
+    private long lastPruneNanos;
+
+    /*
+     * Sinks are looked up when the dispatcher starts, so a sink can depend on the customer service, which depends on the dispatcher.
+     */
+    public CustomerEventDispatcher(
+            CustomerEventRepository eventRepository,
+            ObjectProvider<ICustomerEventSink> sinkProvider,
+            CustomerEventProperties eventProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.sinkProvider = sinkProvider;
+        this.eventProperties = eventProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.prunedCounter = Counter.builder("customers.events.pruned")
+                .description("Delivered customer events deleted from the outbox table")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        lastSeq = eventRepository.findLastSeq();
+
+        var positions = eventRepository.findSinkPositions();
+        var names = new HashSet<String>();
+
+        sinks = sinkProvider.orderedStream()
+                .map(sink -> {
+                    if (!names.add(sink.getName())) throw new IllegalStateException("Duplicate customer event sink name: " + sink.getName());
+
+                    return new SinkState(sink, sink.isDurable() ? positions.getOrDefault(sink.getName(), 0L) : lastSeq);
+                })
+                .toList();
+
+        running = true;
+        lastPruneNanos = System.nanoTime();
+
+        dispatcherThread = new Thread(this::dispatchEvents, "customer-event-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+
+        logger.info("Customer event dispatcher started at seq {} with sinks {}.", lastSeq, names);
+    }
+
+    /*
+     * Events that are not delivered yet stay in the table, durable sinks get them after the restart.
+     */
+    @Override
+    public void stop() {
+        running = false;
+
+        LockSupport.unpark(dispatcherThread);
+
+        try {
+            dispatcherThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Makes the dispatcher look for new events right away instead of after the poll interval, called after every commit with events.
+     */
+    public void wakeUp() {
+        var thread = dispatcherThread;
+
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    /**
+     * @return highest sequence number assigned, delivered or found in the table by this dispatcher
+     */
+    public long getLastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * Deletes the events created before the given time that every durable sink has received, keeping the newest event
+     * (read from the table, it could have been numbered by another dispatcher), so the sequence continues after it.
+     * Every batch of deleted rows is its own transaction.
+     * @return number of deleted events
+     */
+    public int prune(Instant createdBefore) {
+        lastSeq = Math.max(lastSeq, eventRepository.findLastSeq());
+
+        var upToSeq = lastSeq - 1;
+
+        for (var sink : sinks) {
+            if (sink.sink.isDurable()) upToSeq = Math.min(upToSeq, sink.position);
+        }
+
+        var batchSize = eventProperties.getPruneBatchSize();
+        var prunedCount = 0;
+        int deletedCount;
+
+        do {
+            deletedCount = eventRepository.deleteDelivered(upToSeq, createdBefore, batchSize);
+            prunedCount += deletedCount;
+        } while (deletedCount == batchSize);
+
+        prunedCounter.increment(prunedCount);
+
+        return prunedCount;
+    }
+
+    private void dispatchEvents() {
+        while (running) {
+            var moreEvents = false;
+
+            try {
+                moreEvents = sequenceEvents();
+                moreEvents |= deliverEvents();
+
+                pruneIfDue();
+            } catch (RuntimeException ex) {
+                logger.warn("Customer events could not be dispatched, retrying in {}.", eventProperties.getPollInterval(), ex);
+            }
+
+            if (!moreEvents) LockSupport.parkNanos(eventProperties.getPollInterval().toNanos());
+        }
+    }
+
+    /*
+     * The last sequence number is read in the numbering transaction, another dispatcher on the same database
+     * makes the numbering fail (already numbered row or duplicate seq) and it is simply repeated.
+     */
+    private boolean sequenceEvents() {
+        var batchSize = eventProperties.getBatchSize();
+        var ids = eventRepository.findUnsequencedIds(batchSize);
+
+        if (ids.isEmpty()) return false;
+
+        Long sequencedUpTo;
+
+        try {
+            sequencedUpTo = transactionTemplate.execute(status -> {
+                var firstSeq = eventRepository.findLastSeq() + 1;
+
+                if (!eventRepository.assignSeq(ids, firstSeq)) {
+                    status.setRollbackOnly();
+
+                    return null;
+                }
+
+                return firstSeq + ids.size() - 1;
+            });
+        } catch (DuplicateKeyException ex) {
+            sequencedUpTo = null;
+        }
+
+        if (sequencedUpTo == null) {
+            logger.debug("Customer events were numbered concurrently, numbering again.");
+
+            return true;
+        }
+
+        lastSeq = Math.max(lastSeq, sequencedUpTo);
+
+        return ids.size() == batchSize;
+    }
+
+    /*
+     * A sink that failed is skipped until the poll interval has passed, the other sinks are not held up by it.
+     */
+    private boolean deliverEvents() {
+        var batchSize = eventProperties.getBatchSize();
+        var moreEvents = false;
+
+        for (var sink : sinks) {
+            if (sink.retryNanos != 0 && System.nanoTime() - sink.retryNanos < 0) continue;
+
+            var events = eventRepository.findAfter(sink.position, batchSize);
+
+            if (events.isEmpty()) continue;
+
+            try {
+                sink.sink.deliver(events);
+            } catch (Exception ex) {
+                sink.retryNanos = System.nanoTime() + eventProperties.getPollInterval().toNanos();
+
+                logger.warn("Customer event sink {} failed, {} events from seq {} will be delivered again.", sink.sink.getName(), events.size(), events.getFirst().seq(), ex);
+
+                continue;
+            }
+
+            var position = events.getLast().seq();
+
+            if (sink.sink.isDurable()) eventRepository.saveSinkPosition(sink.sink.getName(), position);
+
+            lastSeq = Math.max(lastSeq, position);
+            sink.position = position;
+            sink.retryNanos = 0;
+            sink.deliveredCounter.increment(events.size());
+
+            moreEvents |= events.size() == batchSize;
+        }
+
+        return moreEvents;
+    }
+
+    private void pruneIfDue() {
+        if (System.nanoTime() - lastPruneNanos < eventProperties.getPruneInterval().toNanos()) return;
+
+        lastPruneNanos = System.nanoTime();
+
+        var prunedCount = prune(Instant.now().minus(eventProperties.getRetention()));
+
+        if (prunedCount > 0) logger.info("Pruned {} delivered customer events.", prunedCount);
+    }
+
+    private class SinkState {
+        private final ICustomerEventSink sink;
+        private final Counter deliveredCounter;
+        private volatile long position;
+        private long retryNanos;
+
+        private SinkState(ICustomerEventSink sink, long position) {
+            this.sink = sink;
+            this.position = position;
+            this.deliveredCounter = Counter.builder("customers.events.delivered")
+                    .description("Customer events delivered to a sink")
+                    .tag("sink", sink.getName())
+                    .register(meterRegistry);
+
+            Gauge.builder("customers.events.lag", this, state -> lastSeq - state.position)
+                    .description("Sequenced customer events not yet delivered to a sink")
+                    .tag("sink", sink.getName())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.mysite.customers.service.event;
+
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.event.CustomerEventType;
+import com.mysite.customers.repository.event.CustomerEventRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes customer change events to the outbox table, in the transaction that changes the customers (transactional outbox):
+ * an event exists exactly when its change was committed. The dispatcher is woken up after the commit.
+ */
+@Component
+@Profile("!" + ReactiveConfiguration.PROFILE)
+public class CustomerEventPublisher {
+    private final CustomerEventRepository eventRepository;
+    private final CustomerEventDispatcher dispatcher;
+
+    public CustomerEventPublisher(CustomerEventRepository eventRepository, CustomerEventDispatcher dispatcher) {
+        this.eventRepository = eventRepository;
+        this.dispatcher = dispatcher;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(CustomerEventType type, CustomerDto customer) {
+        publish(type, List.of(customer));
+    }
+
+    /**
+     * A change of an existing customer must already be written (flushed), so its event is inserted while the customer row is locked
+     * and the events of a customer are numbered in commit order (see CustomerEventDispatcher).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(CustomerEventType type, Collection<CustomerDto> customers) {
+        if (customers.isEmpty()) return;
+
+        eventRepository.insert(type, customers, Instant.now());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.wakeUp();
+            }
+        });
+    }
+}
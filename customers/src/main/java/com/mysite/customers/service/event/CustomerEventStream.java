@@ -0,0 +1,214 @@
+package com.mysite.customers.service.event;
+
+import com.mysite.customers.config.CustomerEventProperties;
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.dto.event.CustomerEventDto;
+import com.mysite.customers.repository.event.CustomerEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-durable sink that streams the customer change events to subscribed clients (the server-sent events endpoint).
+ * <p>
+ * Every subscriber has its own virtual thread: it first reads the events after the subscriber's last event from the outbox table,
+ * and once it has caught up it only sends the batches handed over by the dispatcher, without querying the table.
+ * Only a batch that does not follow the last sent event, or a batch missed because the bounded buffer of a slow subscriber
+ * was full, makes it read from the table again, so a slow subscriber never holds up the dispatcher and still gets
+ * every (not yet pruned) event exactly in sequence order.
+ */
+@Component
+@Profile("!" + ReactiveConfiguration.PROFILE)
+public class CustomerEventStream implements ICustomerEventSink, SmartLifecycle {
+
+    Logger logger = LoggerFactory.getLogger(CustomerEventStream.class);
+
+    public static final String SINK_NAME = "event-stream";
+
+    /**
+     * Empty batch that only wakes a subscriber thread up.
+     */
+    private static final List<CustomerEventDto> WAKE_UP = List.of();
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final CustomerEventRepository eventRepository;
+    private final CustomerEventProperties eventProperties;
+
+    private volatile boolean running;
+
+    public CustomerEventStream(CustomerEventRepository eventRepository, CustomerEventProperties eventProperties, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.eventProperties = eventProperties;
+
+        Gauge.builder("customers.events.stream.subscribers", subscriptions, Set::size)
+                .description("Clients subscribed to the customer event stream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Receives the events in sequence order, until it is cancelled or sending fails; it is completed in both cases.
+     * Calls come from a single thread, one at a time.
+     */
+    public interface Subscriber {
+        void send(List<CustomerEventDto> events) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void complete();
+    }
+
+    public static class Subscription {
+        private final Subscriber subscriber;
+        private final BlockingQueue<List<CustomerEventDto>> batches;
+        private volatile boolean cancelled;
+        private volatile boolean overflowed;
+        private long lastSeq;
+
+        private Subscription(Subscriber subscriber, long afterSeq, int queueCapacity) {
+            this.subscriber = subscriber;
+            this.batches = new ArrayBlockingQueue<>(queueCapacity);
+            this.lastSeq = afterSeq;
+        }
+
+        /*
+         * The subscriber thread is not interrupted, an interrupt could close the file channel of a file-backed database.
+         */
+        public void cancel() {
+            cancelled = true;
+
+            if (!batches.offer(WAKE_UP)) {
+                batches.clear();
+                batches.offer(WAKE_UP);
+            }
+        }
+
+        private void send(List<CustomerEventDto> events) throws IOException {
+            var newEvents = events.stream().filter(event -> event.seq() > lastSeq).toList();
+
+            if (newEvents.isEmpty()) return;
+
+            subscriber.send(newEvents);
+
+            lastSeq = newEvents.getLast().seq();
+        }
+    }
+
+    /**
+     * @param afterSeq sequence number of the last event the subscriber already has
+     */
+    public Subscription subscribe(long afterSeq, Subscriber subscriber) {
+        if (!running) throw new IllegalStateException("Customer event stream is not running");
+
+        var subscription = new Subscription(subscriber, afterSeq, eventProperties.getStreamQueueCapacity());
+
+        subscriptions.add(subscription);
+
+        Thread.ofVirtual().name("customer-event-stream").start(() -> stream(subscription));
+
+        return subscription;
+    }
+
+    @Override
+    public String getName() {
+        return SINK_NAME;
+    }
+
+    @Override
+    public boolean isDurable() {
+        return false;
+    }
+
+    /*
+     * Never blocks: a subscriber whose buffer is full misses the batch and reads it from the table later.
+     * Its buffer is full, so it takes another batch from it and notices the overflow then.
+     */
+    @Override
+    public void deliver(List<CustomerEventDto> events) {
+        for (var subscription : subscriptions) {
+            if (!subscription.batches.offer(events)) subscription.overflowed = true;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        for (var subscription : subscriptions) {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void catchUp(Subscription subscription) throws IOException {
+        var batchSize = eventProperties.getBatchSize();
+        List<CustomerEventDto> events;
+
+        do {
+            events = eventRepository.findAfter(subscription.lastSeq, batchSize);
+
+            subscription.send(events);
+        } while (events.size() == batchSize && !subscription.cancelled);
+    }
+
+    /*
+     * The events of a batch are numbered before they are delivered, so reading the table after a gap also returns the batch.
+     * The overflow flag is cleared before the table is read, a batch missed during the reading sets it again.
+     */
+    private void stream(Subscription subscription) {
+        var heartbeatNanos = eventProperties.getStreamHeartbeatInterval().toNanos();
+
+        try {
+            catchUp(subscription);
+
+            while (!subscription.cancelled) {
+                var batch = subscription.batches.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+
+                if (batch == null) {
+                    subscription.subscriber.heartbeat();
+
+                    continue;
+                }
+
+                if (batch.isEmpty() || subscription.cancelled) continue;
+
+                if (subscription.overflowed || batch.getFirst().seq() > subscription.lastSeq + 1) {
+                    subscription.overflowed = false;
+
+                    catchUp(subscription);
+                }
+
+                subscription.send(batch);
+            }
+        } catch (IOException ex) {
+            logger.debug("Customer event stream subscriber is gone.", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            logger.warn("Customer event stream subscriber failed at seq {}.", subscription.lastSeq, ex);
+        } finally {
+            subscriptions.remove(subscription);
+            subscription.subscriber.complete();
+        }
+    }
+}
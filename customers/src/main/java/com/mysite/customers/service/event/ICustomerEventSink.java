@@ -0,0 +1,31 @@
+package com.mysite.customers.service.event;
+
+import com.mysite.customers.dto.event.CustomerEventDto;
+
+import java.util.List;
+
+/**
+ * Receives the customer change events from the {@link CustomerEventDispatcher}, every bean implementing it is a sink.
+ * <p>
+ * Events arrive in batches, in sequence order, and never concurrently for the same sink.
+ * Delivery is at-least-once: when deliver throws, the same batch is delivered again after the poll interval,
+ * and a durable sink also gets the events that were not confirmed before a restart, so an event can arrive twice
+ * (its seq tells). All events of a customer are in the order the changes were committed.
+ */
+public interface ICustomerEventSink {
+    /**
+     * Unique name, the delivery position of a durable sink is stored under it.
+     */
+    String getName();
+
+    /**
+     * A durable sink resumes after its last delivered event after a restart (starting from the oldest kept event when it is new),
+     * and events are kept until every durable sink has received them.
+     * Other sinks start with the events committed after the application started.
+     */
+    default boolean isDurable() {
+        return true;
+    }
+
+    void deliver(List<CustomerEventDto> events) throws Exception;
+}
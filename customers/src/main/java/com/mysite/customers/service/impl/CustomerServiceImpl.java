@@ -1,26 +1,122 @@
 package com.mysite.customers.service.impl;
 
+import com.mysite.customers.config.CacheConfiguration;
+import com.mysite.customers.config.CustomerBulkProperties;
+import com.mysite.customers.config.CustomerImportProperties;
+import com.mysite.customers.config.CustomerListingProperties;
+import com.mysite.customers.config.CustomerSuggestProperties;
+import com.mysite.customers.config.ReactiveConfiguration;
 import com.mysite.customers.domain.Customer;
 import com.mysite.customers.domain.CustomerFactory;
+import com.mysite.customers.domain.CustomerValidator;
 import com.mysite.customers.dto.CustomerDataDto;
 import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerLookupDto;
+import com.mysite.customers.dto.CustomerNameSuggestionDto;
+import com.mysite.customers.dto.CustomerPageDto;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.dto.CustomerVersionDto;
+import com.mysite.customers.dto.batch.BatchCreateItemResultDto;
+import com.mysite.customers.dto.batch.BatchCreateResultDto;
+import com.mysite.customers.dto.batch.BatchDeleteResultDto;
+import com.mysite.customers.dto.batch.ImportRejectedRowDto;
+import com.mysite.customers.dto.batch.ImportResultDto;
+import com.mysite.customers.dto.event.CustomerEventType;
 import com.mysite.customers.dto.mapper.CustomerMapper;
+import com.mysite.customers.dto.reader.CustomerDataRow;
+import com.mysite.customers.dto.validation.ValidationError;
 import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
 import com.mysite.customers.exception.ValidationException;
 import com.mysite.customers.repository.ICustomerRepository;
 import com.mysite.customers.service.ICustomerService;
+import com.mysite.customers.service.event.CustomerEventPublisher;
+import com.mysite.customers.service.index.CustomerNameIndex;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
 @Service
+@Profile("!" + ReactiveConfiguration.PROFILE)
 public class CustomerServiceImpl implements ICustomerService {
+
+    Logger logger = LoggerFactory.getLogger(CustomerServiceImpl.class);
+
     private final ICustomerRepository customerRepository;
+    private final CustomerListingProperties listingProperties;
+    private final CustomerImportProperties importProperties;
+    private final CustomerSuggestProperties suggestProperties;
+    private final CustomerBulkProperties bulkProperties;
+    private final CustomerNameIndex nameIndex;
+    private final CustomerEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
 
-    public CustomerServiceImpl(ICustomerRepository customerRepository) {
+    public CustomerServiceImpl(
+            ICustomerRepository customerRepository,
+            CustomerListingProperties listingProperties,
+            CustomerImportProperties importProperties,
+            CustomerSuggestProperties suggestProperties,
+            CustomerBulkProperties bulkProperties,
+            CustomerNameIndex nameIndex,
+            CustomerEventPublisher eventPublisher,
+            EntityManager entityManager,
+            CacheManager cacheManager,
+            PlatformTransactionManager transactionManager) {
         this.customerRepository = customerRepository;
+        this.listingProperties = listingProperties;
+        this.importProperties = importProperties;
+        this.suggestProperties = suggestProperties;
+        this.bulkProperties = bulkProperties;
+        this.nameIndex = nameIndex;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /*
+     * Customer DTOs are immutable records, so cached instances are returned as they are.
+     * "sync" makes concurrent misses for the same ID load the customer only once.
+     */
+    @Cacheable(cacheNames = CacheConfiguration.CUSTOMERS_CACHE, key = "#id", sync = true)
     @Override
     public CustomerDto findById(long id) throws NotFoundException {
         var customer = getCustomer(id);
@@ -28,6 +124,169 @@ public class CustomerServiceImpl implements ICustomerService {
         return CustomerMapper.toDto(customer);
     }
 
+    /*
+     * Cache hits are not queried, the misses are loaded with findAllById in chunks, so every IN list stays bounded
+     * (customers.bulk.query-chunk-size). Loaded customers are not put into the cache: an update committed after the read
+     * evicts before such a put could happen, and the stale DTO would then stay cached. findById populates it instead.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CustomerLookupDto findByIds(List<Long> ids) throws IllegalArgumentException, ValidationException {
+        var distinctIds = getDistinctIds(ids);
+        var customersCache = cacheManager.getCache(CacheConfiguration.CUSTOMERS_CACHE);
+        var foundCustomers = new HashMap<Long, CustomerDto>(distinctIds.size() * 2);
+        var uncachedIds = new ArrayList<Long>(distinctIds.size());
+
+        for (var id : distinctIds) {
+            var cachedCustomer = customersCache == null ? null : customersCache.get(id, CustomerDto.class);
+
+            if (cachedCustomer != null) {
+                foundCustomers.put(id, cachedCustomer);
+            } else {
+                uncachedIds.add(id);
+            }
+        }
+
+        var chunkSize = bulkProperties.getQueryChunkSize();
+
+        for (int from = 0; from < uncachedIds.size(); from += chunkSize) {
+            var chunk = uncachedIds.subList(from, Math.min(from + chunkSize, uncachedIds.size()));
+
+            for (var customer : customerRepository.findAllById(chunk)) {
+                var customerDto = CustomerMapper.toDto(customer);
+
+                foundCustomers.put(customerDto.id(), customerDto);
+            }
+        }
+
+        var customers = new ArrayList<CustomerDto>(foundCustomers.size());
+        var missingIds = new ArrayList<Long>(distinctIds.size() - foundCustomers.size());
+
+        for (var id : distinctIds) {
+            var customer = foundCustomers.get(id);
+
+            if (customer != null) {
+                customers.add(customer);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return new CustomerLookupDto(customers, missingIds);
+    }
+
+    @Override
+    public CustomerVersionDto getVersion(long id) throws NotFoundException {
+        var customerVersion = customerRepository.findVersionById(id).orElse(null);
+
+        if (customerVersion == null) throw new NotFoundException(id, "Customer");
+
+        return new CustomerVersionDto(customerVersion.version(), customerVersion.modifiedDtime().getTime());
+    }
+
+    /*
+     * Stored e-mail addresses can only contain lowercase letters (see CustomerValidator),
+     * so normalizing the searched value is enough for a case-insensitive match on the plain email index.
+     */
+    @Override
+    public List<CustomerDto> findByEmail(String email) throws IllegalArgumentException {
+        Assert.notNull(email, "E-mail cannot be null");
+
+        return customerRepository.findByEmailOrderByIdAsc(email.trim().toLowerCase(Locale.ROOT))
+                .stream()
+                .map(CustomerMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<CustomerNameSuggestionDto> suggest(String query, Integer limit) throws ValidationException {
+        var maxSuggestions = limit == null ? suggestProperties.getDefaultLimit() : limit;
+        var validationErrors = new ArrayList<ValidationError>(0);
+
+        if (query == null || query.isBlank()) {
+            validationErrors.add(new ValidationError("q", query, "Query must have a value."));
+        }
+
+        if (maxSuggestions < 1 || maxSuggestions > suggestProperties.getMaxLimit()) {
+            validationErrors.add(new ValidationError(
+                    "limit",
+                    String.valueOf(limit),
+                    String.format("Limit must be between %d and %d.", 1, suggestProperties.getMaxLimit())));
+        }
+
+        if (!validationErrors.isEmpty()) throw new ValidationException(validationErrors);
+
+        return nameIndex.findByPrefix(query.trim(), maxSuggestions);
+    }
+
+    @Override
+    public CustomerPageDto findPage(String cursor, Integer limit) throws ValidationException {
+        var pageSize = limit == null ? listingProperties.getDefaultPageSize() : limit;
+
+        if (pageSize < 1 || pageSize > listingProperties.getMaxPageSize()) {
+            throw new ValidationException(List.of(new ValidationError(
+                    "limit",
+                    String.valueOf(limit),
+                    String.format("Limit must be between %d and %d.", 1, listingProperties.getMaxPageSize()))));
+        }
+
+        var afterId = cursor == null ? 0L : decodeCursor(cursor);
+
+        /*
+         * One extra row is queried to know whether there is a next page without issuing a separate count query.
+         */
+        var customers = customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+
+        String nextCursor = null;
+
+        if (customers.size() > pageSize) {
+            customers = customers.subList(0, pageSize);
+            nextCursor = encodeCursor(customers.get(pageSize - 1).getId());
+        }
+
+        return new CustomerPageDto(customers.stream().map(CustomerMapper::toDto).toList(), nextCursor);
+    }
+
+    /*
+     * Every entity is detached right after mapping, otherwise the persistence context would keep a reference
+     * to every customer read during the export.
+     * The session ignores the second-level cache during the export, otherwise every customer would be put into it
+     * and evict the customers being read by ID.
+     * H2 would read the whole table into a temporary result before returning the first row, lazy query execution
+     * makes it read the rows as the stream is consumed. Both are session settings, they are restored after the export.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void exportAll(Consumer<CustomerDto> customerConsumer) {
+        Assert.notNull(customerConsumer, "Customer consumer cannot be null");
+
+        var session = entityManager.unwrap(Session.class);
+        var cacheMode = session.getCacheMode();
+
+        session.setCacheMode(CacheMode.IGNORE);
+        session.doWork(connection -> setLazyQueryExecution(connection, true));
+
+        try (var customers = customerRepository.streamAllByOrderByIdAsc()) {
+            customers.forEach(customer -> {
+                var customerDto = CustomerMapper.toDto(customer);
+
+                entityManager.detach(customer);
+
+                customerConsumer.accept(customerDto);
+            });
+        } finally {
+            session.doWork(connection -> setLazyQueryExecution(connection, false));
+            session.setCacheMode(cacheMode);
+        }
+    }
+
+    private static void setLazyQueryExecution(Connection connection, boolean lazy) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + lazy);
+        }
+    }
+
+    @Transactional
     @Override
     public CustomerDto create(CustomerDataDto newCustomerDataDto) throws IllegalArgumentException, ValidationException {
         Assert.notNull(newCustomerDataDto, "New customer data DTO cannot be null");
@@ -39,31 +298,302 @@ public class CustomerServiceImpl implements ICustomerService {
 
         newCustomer = customerRepository.save(newCustomer);
 
-        return CustomerMapper.toDto(newCustomer);
+        var newCustomerDto = CustomerMapper.toDto(newCustomer);
+
+        nameIndex.put(newCustomer.getId(), newCustomer.getFirstName(), newCustomer.getLastName(), newCustomer.getVersion());
+        eventPublisher.publish(CustomerEventType.CREATED, newCustomerDto);
+
+        return newCustomerDto;
     }
 
+    /*
+     * Valid customers are saved with a single saveAll call inside one transaction, so Hibernate can group the INSERT statements
+     * into JDBC batches (see "hibernate.jdbc.batch_size" in application.properties).
+     * IDs do not need extra round trips either, because customer_seq allocates them in blocks of 50.
+     */
     @Transactional
     @Override
-    public CustomerDto update(long id, CustomerDataDto updatedCustomerDataDto) throws IllegalArgumentException, NotFoundException, ValidationException {
+    public BatchCreateResultDto createBatch(List<CustomerDataDto> newCustomersDataDtos) throws IllegalArgumentException {
+        Assert.notNull(newCustomersDataDtos, "New customers data DTO list cannot be null");
+        Assert.noNullElements(newCustomersDataDtos, "New customers data DTO list cannot contain null items");
+
+        var results = new BatchCreateItemResultDto[newCustomersDataDtos.size()];
+        var newCustomers = new ArrayList<Customer>(newCustomersDataDtos.size());
+        var newCustomerIndexes = new ArrayList<Integer>(newCustomersDataDtos.size());
+
+        for (int i = 0; i < newCustomersDataDtos.size(); i++) {
+            var newCustomerDataDto = newCustomersDataDtos.get(i);
+
+            try {
+                newCustomers.add(CustomerFactory.createCustomer(
+                        newCustomerDataDto.firstName(),
+                        newCustomerDataDto.lastName(),
+                        newCustomerDataDto.email()));
+                newCustomerIndexes.add(i);
+            } catch (ValidationException ex) {
+                results[i] = new BatchCreateItemResultDto(i, null, ex.getErrors());
+            }
+        }
+
+        var savedCustomers = customerRepository.saveAll(newCustomers).iterator();
+        var savedCustomerDtos = new ArrayList<CustomerDto>(newCustomers.size());
+
+        for (int index : newCustomerIndexes) {
+            var savedCustomer = savedCustomers.next();
+            var savedCustomerDto = CustomerMapper.toDto(savedCustomer);
+
+            nameIndex.put(savedCustomer.getId(), savedCustomer.getFirstName(), savedCustomer.getLastName(), savedCustomer.getVersion());
+            savedCustomerDtos.add(savedCustomerDto);
+
+            results[index] = new BatchCreateItemResultDto(index, savedCustomerDto, null);
+        }
+
+        eventPublisher.publish(CustomerEventType.CREATED, savedCustomerDtos);
+
+        return new BatchCreateResultDto(newCustomers.size(), results.length - newCustomers.size(), Arrays.asList(results));
+    }
+
+    /*
+     * Deliberately not @Transactional: every chunk gets its own transaction through the transaction template.
+     */
+    @Override
+    public ImportResultDto importCustomers(Iterator<CustomerDataRow> rows) throws IllegalArgumentException {
+        Assert.notNull(rows, "Rows iterator cannot be null");
+
+        var chunkSize = importProperties.getChunkSize();
+        var chunk = new ArrayList<Customer>(chunkSize);
+        var chunkLineNumbers = new ArrayList<Long>(chunkSize);
+        var progress = new ImportProgress(importProperties.getMaxReportedRejections());
+
+        while (rows.hasNext()) {
+            var row = rows.next();
+
+            if (row.data() == null) {
+                progress.reject(row.lineNumber(), row.parseErrors());
+
+                continue;
+            }
+
+            try {
+                chunk.add(CustomerFactory.createCustomer(
+                        row.data().firstName(),
+                        row.data().lastName(),
+                        row.data().email()));
+                chunkLineNumbers.add(row.lineNumber());
+            } catch (ValidationException ex) {
+                progress.reject(row.lineNumber(), ex.getErrors());
+
+                continue;
+            }
+
+            if (chunk.size() >= chunkSize) {
+                saveImportChunk(chunk, chunkLineNumbers, progress);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            saveImportChunk(chunk, chunkLineNumbers, progress);
+        }
+
+        return new ImportResultDto(progress.acceptedCount, progress.rejectedCount, progress.rejectedRows);
+    }
+
+    /*
+     * No row lock is taken: the version check of the flushed UPDATE detects a concurrent modification
+     * between loading and saving the customer. With an expected version that is reported as a failed precondition,
+     * without one the ObjectOptimisticLockingFailureException is passed on.
+     * The rollback has to be explicit, because the failed flush already marked the transaction rollback-only.
+     */
+    @CacheEvict(cacheNames = CacheConfiguration.CUSTOMERS_CACHE, key = "#id")
+    @Transactional(rollbackFor = PreconditionFailedException.class)
+    @Override
+    public CustomerDto update(long id, CustomerDataDto updatedCustomerDataDto, Long expectedVersion) throws IllegalArgumentException, NotFoundException, ValidationException, PreconditionFailedException {
         Assert.notNull(updatedCustomerDataDto, "Updated customer data DTO cannot be null");
 
         var customer = getCustomer(id);
 
+        if (expectedVersion != null && customer.getVersion() != expectedVersion) throw new PreconditionFailedException(id, "Customer");
+
         customer.update(
                 updatedCustomerDataDto.firstName(),
                 updatedCustomerDataDto.lastName(),
                 updatedCustomerDataDto.email());
 
-        customer = customerRepository.save(customer);
+        try {
+            customer = customerRepository.saveAndFlush(customer);
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion == null) throw ex;
 
-        return CustomerMapper.toDto(customer);
+            throw new PreconditionFailedException(id, "Customer");
+        }
+
+        var customerDto = CustomerMapper.toDto(customer);
+
+        nameIndex.put(customer.getId(), customer.getFirstName(), customer.getLastName(), customer.getVersion());
+        eventPublisher.publish(CustomerEventType.UPDATED, customerDto);
+
+        return customerDto;
     }
 
+    /*
+     * Validates only the supplied properties and applies them with a single UPDATE that also returns the updated row,
+     * instead of loading the entity, dirty checking it and writing every column back.
+     */
+    @CacheEvict(cacheNames = CacheConfiguration.CUSTOMERS_CACHE, key = "#id")
+    @Transactional
     @Override
-    public void deleteById(long id) throws NotFoundException {
-        var customer = getCustomer(id);
+    public CustomerDto patch(long id, CustomerPatchDto customerPatchDto, Long expectedVersion) throws IllegalArgumentException, NotFoundException, ValidationException, PreconditionFailedException {
+        Assert.notNull(customerPatchDto, "Customer patch DTO cannot be null");
+
+        var firstName = customerPatchDto.firstName();
+        var lastName = customerPatchDto.lastName();
+        var email = customerPatchDto.email();
+
+        if (firstName == null && lastName == null && email == null) {
+            var customer = getCustomer(id);
+
+            if (expectedVersion != null && customer.getVersion() != expectedVersion) throw new PreconditionFailedException(id, "Customer");
+
+            return CustomerMapper.toDto(customer);
+        }
+
+        CustomerValidator.ensureValidityOfChanges(firstName, lastName, email);
+
+        var customer = customerRepository.patchById(id, firstName, lastName, email, new Date(), expectedVersion).orElse(null);
+
+        if (customer == null) throwNotUpdatedException(id, expectedVersion);
+
+        var customerDto = CustomerMapper.toDto(customer);
+
+        evictFromEntityCache(List.of(id));
+        nameIndex.put(customer.getId(), customer.getFirstName(), customer.getLastName(), customer.getVersion());
+        eventPublisher.publish(CustomerEventType.UPDATED, customerDto);
+
+        return customerDto;
+    }
+
+    /*
+     * A single DELETE statement that also returns the deleted row, which tells whether the customer existed (with the expected version)
+     * and is the payload of the "deleted" event.
+     */
+    @CacheEvict(cacheNames = CacheConfiguration.CUSTOMERS_CACHE, key = "#id")
+    @Transactional
+    @Override
+    public void deleteById(long id, Long expectedVersion) throws NotFoundException, PreconditionFailedException {
+        var deletedCustomer = customerRepository.deleteCustomerById(id, expectedVersion).orElse(null);
+
+        if (deletedCustomer == null) throwNotUpdatedException(id, expectedVersion);
+
+        var deletedCustomerDto = CustomerMapper.toDto(deletedCustomer);
+
+        entityManager.detach(deletedCustomer);
+
+        evictFromEntityCache(List.of(id));
+        nameIndex.remove(id);
+        eventPublisher.publish(CustomerEventType.DELETED, deletedCustomerDto);
+    }
+
+    /*
+     * The DELETE statement and the "deleted" events are one transaction,
+     * the cache entries are evicted after it completes (same order as @CacheEvict on the other methods).
+     */
+    @Transactional
+    @Override
+    public BatchDeleteResultDto deleteByIds(List<Long> ids) throws IllegalArgumentException, ValidationException {
+        var distinctIds = getDistinctIds(ids);
+        var deletedCustomerDtos = new ArrayList<CustomerDto>(distinctIds.size());
+
+        for (var deletedCustomer : customerRepository.deleteCustomersByIds(distinctIds)) {
+            deletedCustomerDtos.add(CustomerMapper.toDto(deletedCustomer));
+
+            entityManager.detach(deletedCustomer);
+        }
+
+        var deletedIds = new HashSet<Long>(deletedCustomerDtos.size() * 2);
+
+        for (var deletedCustomerDto : deletedCustomerDtos) {
+            deletedIds.add(deletedCustomerDto.id());
+            nameIndex.remove(deletedCustomerDto.id());
+        }
 
-        customerRepository.delete(customer);
+        var customersCache = cacheManager.getCache(CacheConfiguration.CUSTOMERS_CACHE);
+
+        evictFromEntityCache(deletedIds);
+
+        if (customersCache != null) afterCompletion(() -> deletedIds.forEach(customersCache::evict));
+
+        eventPublisher.publish(CustomerEventType.DELETED, deletedCustomerDtos);
+
+        var missingIds = distinctIds.stream()
+                .filter(id -> !deletedIds.contains(id))
+                .toList();
+
+        return new BatchDeleteResultDto(deletedIds.size(), missingIds);
+    }
+
+    /*
+     * Keeps the requested order, which is also the order of the results.
+     */
+    private Set<Long> getDistinctIds(List<Long> ids) throws IllegalArgumentException, ValidationException {
+        Assert.notNull(ids, "Customer IDs list cannot be null");
+        Assert.noNullElements(ids, "Customer IDs list cannot contain null items");
+
+        var distinctIds = new LinkedHashSet<>(ids);
+
+        if (distinctIds.isEmpty() || distinctIds.size() > bulkProperties.getMaxIds()) {
+            throw new ValidationException(List.of(new ValidationError(
+                    "ids",
+                    String.valueOf(distinctIds.size()),
+                    String.format("Number of IDs must be between %d and %d.", 1, bulkProperties.getMaxIds()))));
+        }
+
+        return distinctIds;
+    }
+
+    /*
+     * A conditional statement that affected no rows does not tell why, so the existence is only queried in that (failure) case.
+     */
+    private void throwNotUpdatedException(long id, Long expectedVersion) throws NotFoundException, PreconditionFailedException {
+        if (expectedVersion != null && customerRepository.existsById(id)) throw new PreconditionFailedException(id, "Customer");
+
+        throw new NotFoundException(id, "Customer");
+    }
+
+    /*
+     * The native PATCH and DELETE statements bypass Hibernate, so the customers are evicted from its second-level cache
+     * and the cached query results over the customer table are invalidated here. Inside a transaction that happens after it completes,
+     * like @CacheEvict, so a concurrent load cannot put the old state back into the cache.
+     */
+    private void evictFromEntityCache(Collection<Long> ids) {
+        Runnable eviction = () -> {
+            var sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+            var cache = sessionFactory.getCache();
+
+            for (var id : ids) {
+                cache.evictEntityData(Customer.class, id);
+            }
+
+            var querySpaces = sessionFactory.getMappingMetamodel().getEntityDescriptor(Customer.class).getQuerySpaces();
+
+            try (var session = sessionFactory.openStatelessSession()) {
+                cache.getTimestampsCache().invalidate((String[]) querySpaces, (SharedSessionContractImplementor) session);
+            }
+        };
+
+        afterCompletion(eviction);
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     private Customer getCustomer(long id) throws NotFoundException {
@@ -73,4 +603,70 @@ public class CustomerServiceImpl implements ICustomerService {
 
         return customer;
     }
+
+    private void saveImportChunk(List<Customer> chunk, List<Long> chunkLineNumbers, ImportProgress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                customerRepository.saveAll(chunk);
+                eventPublisher.publish(CustomerEventType.CREATED, chunk.stream().map(CustomerMapper::toDto).toList());
+            });
+
+            progress.acceptedCount += chunk.size();
+
+            for (var customer : chunk) {
+                nameIndex.put(customer.getId(), customer.getFirstName(), customer.getLastName(), customer.getVersion());
+            }
+        } catch (DataAccessException | TransactionException ex) {
+            logger.error("Import chunk of {} rows starting at line {} could not be saved.", chunk.size(), chunkLineNumbers.get(0), ex);
+
+            var chunkError = List.of(new ValidationError(null, null, "Row could not be saved, because its chunk failed to commit."));
+
+            for (var lineNumber : chunkLineNumbers) {
+                progress.reject(lineNumber, chunkError);
+            }
+        } finally {
+            /*
+             * When the persistence context outlives the chunk transaction (open session in view),
+             * the saved entities would otherwise stay managed until the end of the request.
+             */
+            entityManager.clear();
+
+            chunk.clear();
+            chunkLineNumbers.clear();
+        }
+    }
+
+    private static class ImportProgress {
+        private final int maxReportedRejections;
+        private final List<ImportRejectedRowDto> rejectedRows = new ArrayList<>();
+        private long acceptedCount = 0;
+        private long rejectedCount = 0;
+
+        private ImportProgress(int maxReportedRejections) {
+            this.maxReportedRejections = maxReportedRejections;
+        }
+
+        private void reject(long lineNumber, List<ValidationError> errors) {
+            rejectedCount++;
+
+            if (rejectedRows.size() < maxReportedRejections) {
+                rejectedRows.add(new ImportRejectedRowDto(lineNumber, errors));
+            }
+        }
+    }
+
+    /*
+     * The cursor is kept opaque for the clients so the paging key can change without breaking the API.
+     */
+    private static String encodeCursor(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long decodeCursor(String cursor) throws ValidationException {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException(List.of(new ValidationError("cursor", cursor, "Cursor is invalid.")));
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.mysite.customers.service.impl;
+
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.domain.Customer;
+import com.mysite.customers.domain.CustomerFactory;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.mapper.CustomerMapper;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.repository.CustomerRow;
+import com.mysite.customers.repository.IReactiveCustomerRepository;
+import com.mysite.customers.service.IReactiveCustomerService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveCustomerServiceImpl implements IReactiveCustomerService {
+
+    private final IReactiveCustomerRepository customerRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveCustomerServiceImpl(IReactiveCustomerRepository customerRepository, TransactionalOperator transactionalOperator) {
+        this.customerRepository = customerRepository;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @Override
+    public Mono<CustomerDto> findById(long id) {
+        return getCustomer(id).map(CustomerMapper::rowToDto);
+    }
+
+    @Override
+    public Mono<CustomerDto> create(CustomerDataDto newCustomerDataDto) throws IllegalArgumentException {
+        Assert.notNull(newCustomerDataDto, "New customer data DTO cannot be null");
+
+        return createValidCustomer(newCustomerDataDto)
+                .map(newCustomer -> new CustomerRow(null, newCustomer.getFirstName(), newCustomer.getLastName(), newCustomer.getEmail(), null, null, null))
+                .flatMap(customerRepository::save)
+                .map(CustomerMapper::rowToDto);
+    }
+
+    @Override
+    public Mono<CustomerDto> update(long id, CustomerDataDto updatedCustomerDataDto) throws IllegalArgumentException {
+        Assert.notNull(updatedCustomerDataDto, "Updated customer data DTO cannot be null");
+
+        return getCustomer(id)
+                .flatMap(customerRow -> createValidCustomer(updatedCustomerDataDto)
+                        .map(updatedCustomer -> new CustomerRow(
+                                customerRow.id(),
+                                updatedCustomer.getFirstName(),
+                                updatedCustomer.getLastName(),
+                                updatedCustomer.getEmail(),
+                                customerRow.createdDtime(),
+                                customerRow.modifiedDtime(),
+                                customerRow.version())))
+                .flatMap(customerRepository::save)
+                .map(CustomerMapper::rowToDto)
+                .as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Void> deleteById(long id) {
+        return customerRepository.deleteCustomerById(id)
+                .flatMap(deletedCount -> deletedCount == 0 ? Mono.<Void>error(new NotFoundException(id, "Customer")) : Mono.<Void>empty());
+    }
+
+    private Mono<CustomerRow> getCustomer(long id) {
+        return customerRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(id, "Customer")));
+    }
+
+    /*
+     * The entity is only used for validation, it is never persisted: CustomerFactory (and through it CustomerValidator)
+     * stays the single place where the customer rules are enforced.
+     */
+    private static Mono<Customer> createValidCustomer(CustomerDataDto customerDataDto) {
+        return Mono.fromCallable(() -> CustomerFactory.createCustomer(
+                customerDataDto.firstName(),
+                customerDataDto.lastName(),
+                customerDataDto.email()));
+    }
+}
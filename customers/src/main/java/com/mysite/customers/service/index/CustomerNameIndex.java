@@ -0,0 +1,289 @@
+package com.mysite.customers.service.index;
+
+import com.mysite.customers.config.CustomerSuggestProperties;
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.dto.CustomerNameSuggestionDto;
+import com.mysite.customers.repository.ICustomerRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory prefix index over customers' first and last names for autocomplete.
+ * <p>
+ * Every name is stored as a sorted key "lowercase name + \0 + customer ID", so all names starting with a prefix
+ * are a contiguous range of keys, found with a single O(log n) skip list search.
+ * The index is loaded from the customer table at startup and kept current by the customer service,
+ * changes made inside a transaction are applied only after the transaction commits.
+ * <p>
+ * The after-commit callbacks of concurrent transactions run in no particular order, so every change of a customer
+ * is applied atomically (ConcurrentHashMap.compute on its entry, which also replaces its name keys)
+ * and only if it is newer than the indexed one: a change with an older version is dropped, and a deleted customer
+ * keeps an entry without names (IDs are never reused), so a late change cannot bring it back.
+ * Such a late change comes from a transaction that committed before the deletion, so the entry of a deleted customer
+ * is only kept for a while (customers.suggest.deleted-retention) and then removed on a following change of the index.
+ */
+@Component
+@Profile("!" + ReactiveConfiguration.PROFILE)
+public class CustomerNameIndex implements SmartInitializingSingleton, MeterBinder {
+
+    Logger logger = LoggerFactory.getLogger(CustomerNameIndex.class);
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    /*
+     * Rough object sizes for a 64-bit JVM with compressed references and compact (Latin-1) strings,
+     * used only for the memory usage estimate.
+     */
+    private static final int CUSTOMER_ENTRY_BYTES = 32 /* map node */ + 16 /* Long key */ + 24 /* entry record */ + 32 /* suggestion record */;
+    private static final int NAME_KEY_BYTES = 32 /* skip list node and its share of index nodes */ + 24 /* String */ + 16 /* byte[] header */;
+    private static final int NAME_STRING_BYTES = 24 /* String */ + 16 /* byte[] header */;
+
+    private final ConcurrentSkipListSet<String> nameKeys = new ConcurrentSkipListSet<>();
+    private final Map<Long, IndexEntry> customers = new ConcurrentHashMap<>();
+    private final Queue<Deletion> deletions = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock deletionsLock = new ReentrantLock();
+    private final AtomicInteger customerCount = new AtomicInteger();
+    private final AtomicInteger deletedCount = new AtomicInteger();
+    private final AtomicLong memoryBytes = new AtomicLong();
+
+    private final ICustomerRepository customerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long deletedRetentionNanos;
+
+    public CustomerNameIndex(ICustomerRepository customerRepository, PlatformTransactionManager transactionManager, CustomerSuggestProperties suggestProperties) {
+        this.customerRepository = customerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.deletedRetentionNanos = suggestProperties.getDeletedRetention().toNanos();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("customers.suggest.index.customers", customerCount, AtomicInteger::get)
+                .description("Number of customers in the name index")
+                .register(registry);
+
+        Gauge.builder("customers.suggest.index.deleted", deletedCount, AtomicInteger::get)
+                .description("Recently deleted customers kept in the name index to drop late changes")
+                .register(registry);
+
+        Gauge.builder("customers.suggest.index.memory", memoryBytes, AtomicLong::get)
+                .description("Estimated memory used by the name index")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (var names = customerRepository.streamAllNames()) {
+                names.forEach(name -> index(new CustomerNameSuggestionDto(name.id(), name.firstName(), name.lastName()), name.version()));
+            }
+        });
+
+        logger.info("Customer name index loaded with {} customers, estimated {} bytes per customer.", size(), estimateBytesPerCustomer());
+    }
+
+    /**
+     * Adds a customer to the index or replaces its names, unless the index already has the same or a newer version
+     * or the customer was deleted. Inside a transaction the change is applied after the transaction commits.
+     * @param version version of the customer with the given names
+     */
+    public void put(long id, String firstName, String lastName, long version) {
+        afterCommit(() -> {
+            index(new CustomerNameSuggestionDto(id, firstName, lastName), version);
+            removeExpiredDeletions();
+        });
+    }
+
+    /**
+     * Removes a customer from the index for good.
+     * Inside a transaction the change is applied after the transaction commits.
+     */
+    public void remove(long id) {
+        afterCommit(() -> {
+            customers.compute(id, (key, previous) -> {
+                if (previous == IndexEntry.DELETED) return previous;
+
+                if (previous != null) {
+                    removeKeys(previous.suggestion());
+                    customerCount.decrementAndGet();
+                    memoryBytes.addAndGet(-estimateBytes(previous.suggestion()));
+                }
+
+                deletions.add(new Deletion(id, System.nanoTime()));
+                deletedCount.incrementAndGet();
+
+                return IndexEntry.DELETED;
+            });
+
+            removeExpiredDeletions();
+        });
+    }
+
+    /**
+     * Finds customers whose first or last name starts with the given prefix (case-insensitively).
+     * @param prefix name prefix
+     * @param limit maximum number of customers returned
+     * @return matching customers ordered by the matching name
+     */
+    public List<CustomerNameSuggestionDto> findByPrefix(String prefix, int limit) {
+        var normalizedPrefix = normalize(prefix);
+        var ids = new LinkedHashSet<Long>();
+
+        for (var key : nameKeys.tailSet(normalizedPrefix)) {
+            if (!key.startsWith(normalizedPrefix) || ids.size() >= limit) break;
+
+            ids.add(Long.parseLong(key, key.lastIndexOf(KEY_SEPARATOR) + 1, key.length(), 10));
+        }
+
+        var suggestions = new ArrayList<CustomerNameSuggestionDto>(ids.size());
+
+        for (var id : ids) {
+            var entry = customers.get(id);
+
+            // The customer could have been removed or renamed after its key was read.
+            if (entry != null && entry.suggestion() != null && entry.matches(normalizedPrefix)) suggestions.add(entry.suggestion());
+        }
+
+        return suggestions;
+    }
+
+    public int size() {
+        return customerCount.get();
+    }
+
+    /**
+     * @return number of deleted customers whose entries are still kept
+     */
+    public int deletedSize() {
+        return deletedCount.get();
+    }
+
+    public long estimateMemoryBytes() {
+        return memoryBytes.get();
+    }
+
+    public long estimateBytesPerCustomer() {
+        var size = size();
+
+        return size == 0 ? 0 : estimateMemoryBytes() / size;
+    }
+
+    /*
+     * The name keys are replaced inside compute, so changes of the same customer cannot interleave.
+     */
+    private void index(CustomerNameSuggestionDto customer, long version) {
+        customers.compute(customer.id(), (id, previous) -> {
+            if (previous != null && (previous.suggestion() == null || previous.version() >= version)) return previous;
+
+            if (previous != null) {
+                removeKeys(previous.suggestion());
+                memoryBytes.addAndGet(-estimateBytes(previous.suggestion()));
+            } else {
+                customerCount.incrementAndGet();
+            }
+
+            nameKeys.add(toKey(customer.firstName(), customer.id()));
+            nameKeys.add(toKey(customer.lastName(), customer.id()));
+            memoryBytes.addAndGet(estimateBytes(customer));
+
+            return new IndexEntry(customer, version);
+        });
+    }
+
+    /*
+     * Deletions are queued in the order they were applied, so only the head of the queue has to be checked.
+     * One thread removes them at a time, the others skip it.
+     */
+    private void removeExpiredDeletions() {
+        if (!deletionsLock.tryLock()) return;
+
+        try {
+            var now = System.nanoTime();
+            Deletion deletion;
+
+            while ((deletion = deletions.peek()) != null && now - deletion.deletedNanos() >= deletedRetentionNanos) {
+                customers.remove(deletion.id(), IndexEntry.DELETED);
+                deletions.poll();
+                deletedCount.decrementAndGet();
+            }
+        } finally {
+            deletionsLock.unlock();
+        }
+    }
+
+    private static long estimateBytes(CustomerNameSuggestionDto customer) {
+        var nameLengths = customer.firstName().length() + customer.lastName().length();
+        var idLength = Long.toString(customer.id()).length();
+
+        return CUSTOMER_ENTRY_BYTES
+                + 2L * (NAME_KEY_BYTES + NAME_STRING_BYTES)
+                + 2L * nameLengths // names are stored once for display and once lowercased in the keys
+                + 2L * (1 + idLength);
+    }
+
+    private void removeKeys(CustomerNameSuggestionDto customer) {
+        nameKeys.remove(toKey(customer.firstName(), customer.id()));
+        nameKeys.remove(toKey(customer.lastName(), customer.id()));
+    }
+
+    private static String toKey(String name, long id) {
+        return normalize(name) + KEY_SEPARATOR + id;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Deletion(long id, long deletedNanos) { }
+
+    /*
+     * A deleted customer has no suggestion.
+     */
+    private record IndexEntry(CustomerNameSuggestionDto suggestion, long version) {
+        private static final IndexEntry DELETED = new IndexEntry(null, Long.MAX_VALUE);
+
+        private boolean matches(String normalizedPrefix) {
+            return normalize(suggestion.firstName()).startsWith(normalizedPrefix) || normalize(suggestion.lastName()).startsWith(normalizedPrefix);
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
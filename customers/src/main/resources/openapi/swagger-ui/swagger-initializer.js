@@ -0,0 +1,16 @@
+// Swagger UI of the "prod" profile (ProductionConfiguration), showing the OpenAPI document generated by the build.
+window.onload = function() {
+  window.ui = SwaggerUIBundle({
+    url: "/v3/api-docs",
+    dom_id: '#swagger-ui',
+    deepLinking: true,
+    presets: [
+      SwaggerUIBundle.presets.apis,
+      SwaggerUIStandalonePreset
+    ],
+    plugins: [
+      SwaggerUIBundle.plugins.DownloadUrl
+    ],
+    layout: "StandaloneLayout"
+  });
+};
@@ -0,0 +1,50 @@
+package com.mysite.customers.openapi;
+
+import com.mysite.customers.CustomersApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates the OpenAPI document at build time (generateOpenApiDocs task), arguments: output file.
+ * <p>
+ * Boots the application with its regular configuration on a random port and saves what springdoc serves at /v3/api-docs,
+ * so the document is the one springdoc would scan at runtime, with the info of OpenAPIConfiguration.
+ * Keys are sorted, so the document only changes when the API does.
+ */
+public class OpenApiDocumentGenerator {
+
+    public static void main(String[] args) throws Exception {
+        var output = Path.of(args[0]);
+
+        try (var context = new SpringApplicationBuilder(CustomersApplication.class)
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--springdoc.writer-with-order-by-keys=true",
+                        "--springdoc.writer-with-default-pretty-printer=true")) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            try (var httpClient = HttpClient.newHttpClient()) {
+                var response = httpClient.send(
+                        HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v3/api-docs")).GET().build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("GET /v3/api-docs failed with status " + response.statusCode());
+                }
+
+                Files.createDirectories(output.getParent());
+                Files.write(output, response.body());
+            }
+        }
+
+        System.out.println("OpenAPI document written to " + output.toAbsolutePath());
+    }
+}
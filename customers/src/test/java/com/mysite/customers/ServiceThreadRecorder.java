@@ -0,0 +1,25 @@
+package com.mysite.customers;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the threads that call {@link com.mysite.customers.service.ICustomerService#findById(long)},
+ * for the tests of the request execution mode (import it into the test's application context).
+ */
+@Aspect
+public class ServiceThreadRecorder {
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+    @Before("execution(* com.mysite.customers.service.ICustomerService.findById(..))")
+    public void recordThread() {
+        threads.add(Thread.currentThread());
+    }
+
+    public List<Thread> getThreads() {
+        return threads;
+    }
+}
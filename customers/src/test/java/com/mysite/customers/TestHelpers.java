@@ -30,10 +30,10 @@ public class TestHelpers {
     /**
      * Constructs a customer DTO from given customer data DTO.
      * @param customerDataDto customer data DTO
-     * @return a mapped CustomerDto, where the customer ID is 1
+     * @return a mapped CustomerDto, where the customer ID is 1 and the version is 0
      */
     public static CustomerDto getCustomerDto(CustomerDataDto customerDataDto) {
-        return new CustomerDto(1L, customerDataDto.firstName(), customerDataDto.lastName(), customerDataDto.email());
+        return new CustomerDto(1L, customerDataDto.firstName(), customerDataDto.lastName(), customerDataDto.email(), 0);
     }
 
     /**
@@ -0,0 +1,157 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.exception.PreconditionFailedException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for the If-Match (optimistic concurrency) handling of
+ * {@link CustomerController#updateCustomer(long, com.mysite.customers.dto.CustomerDataDto, String)},
+ * {@link CustomerController#patchCustomer(long, CustomerPatchDto, String)} and
+ * {@link CustomerController#deleteCustomer(long, String)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class ConditionalCustomerEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenIfMatch_whenUpdateCustomer_thenExpectedVersionIsPassedAndNewETagIsReturned() throws Exception {
+        var customerData = TestHelpers.getValidCustomerData();
+        var updatedCustomer = new CustomerDto(1L, customerData.firstName(), customerData.lastName(), customerData.email(), 5);
+
+        when(customerService.update(eq(1L), any(), eq(4L))).thenReturn(updatedCustomer);
+
+        mockMvc.perform(put(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                        .header(HttpHeaders.IF_MATCH, "\"4\"")
+                        .content(TestHelpers.toJsonStr(customerData))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+                .andExpect(content().json(TestHelpers.toJsonStr(updatedCustomer)));
+    }
+
+    @Test
+    @Order(2)
+    void givenNoIfMatch_whenUpdateCustomer_thenUpdateIsUnconditional() throws Exception {
+        when(customerService.update(anyLong(), any(), any())).thenReturn(TestHelpers.getValidCustomerDto());
+
+        mockMvc.perform(put(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                        .content(TestHelpers.toJsonStr(TestHelpers.getValidCustomerData()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        verify(customerService).update(eq(1L), any(), isNull());
+    }
+
+    @Test
+    @Order(3)
+    void givenOutdatedIfMatch_whenUpdateCustomer_thenStatus412IsReturned() throws Exception {
+        when(customerService.update(anyLong(), any(), any())).thenThrow(new PreconditionFailedException(1L, "Customer"));
+
+        mockMvc.perform(put(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .content(TestHelpers.toJsonStr(TestHelpers.getValidCustomerData()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(content().contentType(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("Entity 'Customer' with id: 1 does not match the expected version."));
+    }
+
+    /**
+     * Weak and malformed ETags can never match, the service is not called at all.
+     */
+    @Test
+    @Order(4)
+    void givenWeakOrMalformedIfMatch_whenUpdateCustomer_thenStatus412IsReturned() throws Exception {
+        for (var ifMatch : new String[] { "W/\"3\"", "3", "\"abc\"", "\"1\", \"2\"" }) {
+            mockMvc.perform(put(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                            .header(HttpHeaders.IF_MATCH, ifMatch)
+                            .content(TestHelpers.toJsonStr(TestHelpers.getValidCustomerData()))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isPreconditionFailed());
+        }
+
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    @Order(5)
+    void givenConcurrentUnconditionalUpdate_whenUpdateCustomer_thenStatus409IsReturned() throws Exception {
+        when(customerService.update(anyLong(), any(), any())).thenThrow(new OptimisticLockingFailureException("Row was updated or deleted by another transaction"));
+
+        mockMvc.perform(put(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                        .content(TestHelpers.toJsonStr(TestHelpers.getValidCustomerData()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentType(MediaType.TEXT_PLAIN));
+    }
+
+    @Test
+    @Order(6)
+    void givenIfMatch_whenPatchCustomer_thenExpectedVersionIsPassedAndNewETagIsReturned() throws Exception {
+        var patchedCustomer = new CustomerDto(1L, "Jane", "Doe", "johndoe@example.com", 8);
+
+        when(customerService.patch(eq(1L), eq(new CustomerPatchDto("Jane", null, null)), eq(7L))).thenReturn(patchedCustomer);
+
+        mockMvc.perform(patch(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                        .header(HttpHeaders.IF_MATCH, "\"7\"")
+                        .content("{\"firstName\":\"Jane\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8\""));
+    }
+
+    @Test
+    @Order(7)
+    void givenAnyIfMatch_whenDeleteCustomer_thenDeleteIsUnconditional() throws Exception {
+        mockMvc.perform(delete(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                        .header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isNoContent());
+
+        verify(customerService).deleteById(eq(1L), isNull());
+    }
+
+    @Test
+    @Order(8)
+    void givenOutdatedIfMatch_whenDeleteCustomer_thenStatus412IsReturned() throws Exception {
+        doThrow(new PreconditionFailedException(1L, "Customer")).when(customerService).deleteById(1L, 2L);
+
+        mockMvc.perform(delete(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+}
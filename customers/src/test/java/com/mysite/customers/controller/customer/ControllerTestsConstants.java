@@ -3,4 +3,10 @@ package com.mysite.customers.controller.customer;
 public class ControllerTestsConstants {
     public static final String CUSTOMER_PATH_ROOT = "/v1/customers";
     public static final String ID_PATH_VARIABLE = "/{id}";
+    public static final String BATCH_PATH = "/batch";
+    public static final String EXPORT_PATH = "/export";
+    public static final String IMPORT_PATH = "/import";
+    public static final String LOOKUP_PATH = "/lookup";
+    public static final String SUGGEST_PATH = "/suggest";
+    public static final String EVENTS_PATH = "/events";
 }
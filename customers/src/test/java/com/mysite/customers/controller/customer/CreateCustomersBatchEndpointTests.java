@@ -0,0 +1,68 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.ExpectedErrorMessages;
+import com.mysite.customers.ExpectedPropertyNames;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.batch.BatchCreateItemResultDto;
+import com.mysite.customers.dto.batch.BatchCreateResultDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerController#createCustomers(List)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class CreateCustomersBatchEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenMixedCustomersData_whenCreateCustomers_thenStatus200AndPerItemResultsAreReturned() throws Exception {
+        var invalidCustomerData = new CustomerDataDto(null, "Doe", "johndoe@example.com");
+
+        var result = new BatchCreateResultDto(1, 1, List.of(
+                new BatchCreateItemResultDto(0, TestHelpers.getValidCustomerDto(), null),
+                new BatchCreateItemResultDto(1, null, List.of(
+                        new ValidationError(ExpectedPropertyNames.FIRST_NAME, null, ExpectedErrorMessages.FirstName.REQUIRED)))));
+
+        when(customerService.createBatch(anyList())).thenReturn(result);
+
+        mockMvc.perform(post(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.BATCH_PATH)
+                        .content(TestHelpers.toJsonStr(List.of(TestHelpers.getValidCustomerData(), invalidCustomerData)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(result)));
+    }
+
+    @Test
+    @Order(2)
+    void givenNullCustomersData_whenCreateCustomers_thenStatus400IsReturned() throws Exception {
+        mockMvc.perform(post(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.BATCH_PATH)
+                        .content(TestHelpers.toJsonStr(null))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+}
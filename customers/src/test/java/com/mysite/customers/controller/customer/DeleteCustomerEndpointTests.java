@@ -12,6 +12,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -19,7 +20,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
- * Test cases for {@link CustomerController#deleteCustomer(long)}.
+ * Test cases for {@link CustomerController#deleteCustomer(long, String)}.
  */
 @WebMvcTest(CustomerController.class)
 public class DeleteCustomerEndpointTests {
@@ -43,7 +44,7 @@ public class DeleteCustomerEndpointTests {
     void givenUnknownCustomerId_whenGetCustomerById_thenStatus404AndNotFoundMessageIsReturned() throws Exception {
         var unknownCustomerId = -1L;
 
-        doThrow(new NotFoundException(unknownCustomerId, "Customer")).when(customerService).deleteById(anyLong());
+        doThrow(new NotFoundException(unknownCustomerId, "Customer")).when(customerService).deleteById(anyLong(), any());
 
         mockMvc.perform(delete(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, unknownCustomerId))
                 .andExpect(status().isNotFound())
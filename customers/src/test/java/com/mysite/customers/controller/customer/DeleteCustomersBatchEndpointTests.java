@@ -0,0 +1,82 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.batch.BatchDeleteResultDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.dto.validation.ValidationErrorsDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerController#deleteCustomers(List)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class DeleteCustomersBatchEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenCommaSeparatedIds_whenDeleteCustomers_thenStatus200AndMissingIdsAreReturned() throws Exception {
+        var result = new BatchDeleteResultDto(2, List.of(3L));
+
+        when(customerService.deleteByIds(List.of(1L, 2L, 3L))).thenReturn(result);
+
+        mockMvc.perform(delete(ControllerTestsConstants.CUSTOMER_PATH_ROOT).param("ids", "1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(result)));
+    }
+
+    @Test
+    @Order(2)
+    void givenRepeatedIdsParameter_whenDeleteCustomers_thenAllIdsArePassedToService() throws Exception {
+        when(customerService.deleteByIds(anyList())).thenReturn(new BatchDeleteResultDto(2, List.of()));
+
+        mockMvc.perform(delete(ControllerTestsConstants.CUSTOMER_PATH_ROOT).param("ids", "1").param("ids", "2"))
+                .andExpect(status().isOk());
+
+        verify(customerService).deleteByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @Order(3)
+    void givenTooManyIds_whenDeleteCustomers_thenStatus400AndValidationErrorsAreReturned() throws Exception {
+        var validationErrors = List.of(new ValidationError("ids", "1001", "Number of IDs must be between 1 and 1000."));
+
+        when(customerService.deleteByIds(anyList())).thenThrow(new ValidationException(validationErrors));
+
+        mockMvc.perform(delete(ControllerTestsConstants.CUSTOMER_PATH_ROOT).param("ids", "1,2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(new ValidationErrorsDto(validationErrors))));
+    }
+
+    @Test
+    @Order(4)
+    void givenNonNumericId_whenDeleteCustomers_thenStatus400IsReturned() throws Exception {
+        mockMvc.perform(delete(ControllerTestsConstants.CUSTOMER_PATH_ROOT).param("ids", "1,abc"))
+                .andExpect(status().isBadRequest());
+    }
+}
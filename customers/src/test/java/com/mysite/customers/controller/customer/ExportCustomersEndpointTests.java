@@ -0,0 +1,65 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.service.ICustomerService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerController#exportCustomers(HttpServletResponse)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class ExportCustomersEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    @SuppressWarnings("unchecked")
+    void givenCustomers_whenExportCustomers_thenStatus200AndOneJsonLinePerCustomerIsReturned() throws Exception {
+        var firstCustomer = TestHelpers.getValidCustomerDto();
+        var secondCustomer = new CustomerDto(2L, "Jane", "Doe", "janedoe@example.com", 0);
+
+        doAnswer(invocation -> {
+            var customerConsumer = (Consumer<CustomerDto>) invocation.getArgument(0);
+
+            customerConsumer.accept(firstCustomer);
+            customerConsumer.accept(secondCustomer);
+
+            return null;
+        }).when(customerService).exportAll(any());
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.EXPORT_PATH))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(TestHelpers.toJsonStr(firstCustomer) + "\n" + TestHelpers.toJsonStr(secondCustomer) + "\n"));
+    }
+
+    @Test
+    @Order(2)
+    void givenNoCustomers_whenExportCustomers_thenStatus200AndEmptyBodyIsReturned() throws Exception {
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.EXPORT_PATH))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+}
@@ -2,24 +2,36 @@ package com.mysite.customers.controller.customer;
 
 import com.mysite.customers.TestHelpers;
 import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerVersionDto;
 import com.mysite.customers.exception.NotFoundException;
 import com.mysite.customers.service.ICustomerService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
- * Test cases for {@link CustomerController#getCustomer(long)}.
+ * Test cases for {@link CustomerController#getCustomer(long, WebRequest, HttpServletResponse)}.
  */
 @WebMvcTest(CustomerController.class)
 public class GetCustomerEndpointTests {
@@ -30,11 +42,16 @@ public class GetCustomerEndpointTests {
     @MockBean
     private ICustomerService customerService;
 
+    private static final long VERSION = 3L;
+    private static final long MODIFIED_TIME = 1728723138000L;
+    private static final CustomerVersionDto CUSTOMER_VERSION = new CustomerVersionDto(VERSION, MODIFIED_TIME);
+
     @Test
     @Order(1)
     void givenKnownCustomerId_whenGetCustomer_thenStatus200AndCustomerDataIsReturned() throws Exception {
         var customerDto = TestHelpers.getValidCustomerDto();
 
+        when(customerService.getVersion(anyLong())).thenReturn(CUSTOMER_VERSION);
         when(customerService.findById(anyLong())).thenReturn(customerDto);
 
         var customerDtoJsonStr = TestHelpers.toJsonStr(customerDto);
@@ -50,6 +67,7 @@ public class GetCustomerEndpointTests {
     void givenUnknownCustomerId_whenGetCustomer_thenStatus404AndNotFoundMessageIsReturned() throws Exception {
         var unknownCustomerId = -1L;
 
+        when(customerService.getVersion(anyLong())).thenThrow(new NotFoundException(unknownCustomerId, "Customer"));
         when(customerService.findById(anyLong())).thenThrow(new NotFoundException(unknownCustomerId, "Customer"));
 
         mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, unknownCustomerId))
@@ -57,4 +75,86 @@ public class GetCustomerEndpointTests {
                 .andExpect(content().contentType(MediaType.TEXT_PLAIN))
                 .andExpect(content().string(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId)));
     }
+
+    @Test
+    @Order(3)
+    void givenKnownCustomerId_whenGetCustomer_thenETagAndLastModifiedHeadersAreReturned() throws Exception {
+        var customerDto = getCustomerDto(VERSION, MODIFIED_TIME);
+
+        when(customerService.getVersion(anyLong())).thenReturn(CUSTOMER_VERSION);
+        when(customerService.findById(anyLong())).thenReturn(customerDto);
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, customerDto.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, "\"" + VERSION + "\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, MODIFIED_TIME));
+    }
+
+    /**
+     * The customer was updated after its version was checked, the headers describe the returned (newer) state, not the checked one.
+     */
+    @Test
+    @Order(4)
+    void givenUpdateAfterVersionCheck_whenGetCustomer_thenHeadersMatchReturnedCustomer() throws Exception {
+        var updatedModifiedTime = MODIFIED_TIME + 60_000;
+        var customerDto = getCustomerDto(VERSION + 1, updatedModifiedTime);
+
+        when(customerService.getVersion(anyLong())).thenReturn(CUSTOMER_VERSION);
+        when(customerService.findById(anyLong())).thenReturn(customerDto);
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, customerDto.id())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + (VERSION - 1) + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, "\"" + (VERSION + 1) + "\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, updatedModifiedTime))
+                .andExpect(content().json(TestHelpers.toJsonStr(customerDto)));
+    }
+
+    @Test
+    @Order(5)
+    void givenMatchingIfNoneMatch_whenGetCustomer_thenStatus304AndCustomerIsNotLoaded() throws Exception {
+        when(customerService.getVersion(anyLong())).thenReturn(CUSTOMER_VERSION);
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + VERSION + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(customerService, never()).findById(anyLong());
+    }
+
+    @Test
+    @Order(6)
+    void givenUpToDateIfModifiedSince_whenGetCustomer_thenStatus304AndCustomerIsNotLoaded() throws Exception {
+        when(customerService.getVersion(anyLong())).thenReturn(CUSTOMER_VERSION);
+
+        var ifModifiedSince = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC));
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, 1L)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, ifModifiedSince))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(customerService, never()).findById(anyLong());
+    }
+
+    @Test
+    @Order(7)
+    void givenOutdatedIfNoneMatch_whenGetCustomer_thenStatus200AndCustomerDataIsReturned() throws Exception {
+        var customerDto = TestHelpers.getValidCustomerDto();
+
+        when(customerService.getVersion(anyLong())).thenReturn(CUSTOMER_VERSION);
+        when(customerService.findById(anyLong())).thenReturn(customerDto);
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, customerDto.id())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + (VERSION - 1) + "\""))
+                .andExpect(status().isOk())
+                .andExpect(content().json(TestHelpers.toJsonStr(customerDto)));
+    }
+
+    private static CustomerDto getCustomerDto(long version, long modifiedTime) {
+        var customerData = TestHelpers.getValidCustomerData();
+
+        return new CustomerDto(1L, customerData.firstName(), customerData.lastName(), customerData.email(), version, modifiedTime);
+    }
 }
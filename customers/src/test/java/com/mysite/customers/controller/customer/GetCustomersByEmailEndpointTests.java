@@ -0,0 +1,51 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerController#getCustomersByEmail(String)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class GetCustomersByEmailEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenEmailParameter_whenGetCustomers_thenStatus200AndMatchingCustomersAreReturned() throws Exception {
+        var customers = List.of(TestHelpers.getValidCustomerDto());
+
+        when(customerService.findByEmail(anyString())).thenReturn(customers);
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT).param("email", "johndoe@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(customers)));
+
+        verify(customerService, never()).findPage(any(), any());
+    }
+}
@@ -0,0 +1,93 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerLookupDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.dto.validation.ValidationErrorsDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerController#getCustomersByIds(List)} and {@link CustomerController#lookupCustomers(List)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class GetCustomersByIdsEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenCommaSeparatedIds_whenGetCustomersByIds_thenStatus200AndCustomersAndMissingIdsAreReturned() throws Exception {
+        var result = getLookupResult();
+
+        when(customerService.findByIds(List.of(2L, 1L, 3L))).thenReturn(result);
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT).param("ids", "2,1,3"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(result), true));
+    }
+
+    @Test
+    @Order(2)
+    void givenIdsInRequestBody_whenLookupCustomers_thenStatus200AndCustomersAndMissingIdsAreReturned() throws Exception {
+        var result = getLookupResult();
+
+        when(customerService.findByIds(List.of(2L, 1L, 3L))).thenReturn(result);
+
+        mockMvc.perform(post(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.LOOKUP_PATH)
+                        .content("[2,1,3]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(result), true));
+    }
+
+    @Test
+    @Order(3)
+    void givenTooManyIds_whenGetCustomersByIds_thenStatus400AndValidationErrorsAreReturned() throws Exception {
+        var validationErrors = List.of(new ValidationError("ids", "1001", "Number of IDs must be between 1 and 1000."));
+
+        when(customerService.findByIds(anyList())).thenThrow(new ValidationException(validationErrors));
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT).param("ids", "1,2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(new ValidationErrorsDto(validationErrors))));
+    }
+
+    @Test
+    @Order(4)
+    void givenNonNumericId_whenGetCustomersByIds_thenStatus400IsReturned() throws Exception {
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT).param("ids", "1,abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static CustomerLookupDto getLookupResult() {
+        return new CustomerLookupDto(
+                List.of(new CustomerDto(2L, "Jane", "Doe", "janedoe@example.com", 0), TestHelpers.getValidCustomerDto()),
+                List.of(3L));
+    }
+}
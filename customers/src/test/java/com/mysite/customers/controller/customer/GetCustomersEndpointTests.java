@@ -0,0 +1,66 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.CustomerPageDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.dto.validation.ValidationErrorsDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerController#getCustomers(String, Integer)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class GetCustomersEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenCursorAndLimit_whenGetCustomers_thenStatus200AndCustomerPageIsReturned() throws Exception {
+        var customerPage = new CustomerPageDto(List.of(TestHelpers.getValidCustomerDto()), "MQ");
+
+        when(customerService.findPage(eq("MA"), eq(1))).thenReturn(customerPage);
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT)
+                        .param("cursor", "MA")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(customerPage)));
+    }
+
+    @Test
+    @Order(2)
+    void givenInvalidCursor_whenGetCustomers_thenStatus400AndValidationErrorsAreReturned() throws Exception {
+        var validationErrors = List.of(new ValidationError("cursor", "x", "Cursor is invalid."));
+
+        when(customerService.findPage(any(), any())).thenThrow(new ValidationException(validationErrors));
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT).param("cursor", "x"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(new ValidationErrorsDto(validationErrors))));
+    }
+}
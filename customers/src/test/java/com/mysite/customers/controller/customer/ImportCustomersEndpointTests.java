@@ -0,0 +1,79 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.ExpectedErrorMessages;
+import com.mysite.customers.ExpectedPropertyNames;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.batch.ImportRejectedRowDto;
+import com.mysite.customers.dto.batch.ImportResultDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerController#importCustomersNdjson(InputStream)} and {@link CustomerController#importCustomersCsv(InputStream)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class ImportCustomersEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenNdjsonBody_whenImportCustomers_thenStatus200AndImportResultIsReturned() throws Exception {
+        var result = new ImportResultDto(1, 1, List.of(new ImportRejectedRowDto(2, List.of(
+                new ValidationError(ExpectedPropertyNames.FIRST_NAME, null, ExpectedErrorMessages.FirstName.REQUIRED)))));
+
+        when(customerService.importCustomers(any())).thenReturn(result);
+
+        mockMvc.perform(post(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.IMPORT_PATH)
+                        .content(TestHelpers.toJsonStr(TestHelpers.getValidCustomerData()) + "\n{\"lastName\":\"Doe\",\"email\":\"johndoe@example.com\"}\n")
+                        .contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(result)));
+    }
+
+    @Test
+    @Order(2)
+    void givenCsvBody_whenImportCustomers_thenStatus200AndImportResultIsReturned() throws Exception {
+        var result = new ImportResultDto(1, 0, List.of());
+
+        when(customerService.importCustomers(any())).thenReturn(result);
+
+        mockMvc.perform(post(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.IMPORT_PATH)
+                        .content("firstName,lastName,email\nJohn,Doe,johndoe@example.com\n")
+                        .contentType("text/csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(TestHelpers.toJsonStr(result)));
+    }
+
+    @Test
+    @Order(3)
+    void givenCsvBodyWithoutHeader_whenImportCustomers_thenStatus400IsReturned() throws Exception {
+        mockMvc.perform(post(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.IMPORT_PATH)
+                        .content("John,Doe,johndoe@example.com\n")
+                        .contentType("text/csv"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+}
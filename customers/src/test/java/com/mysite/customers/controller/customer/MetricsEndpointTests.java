@@ -0,0 +1,55 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.TestHelpers;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for the latency histograms in the Prometheus scrape endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsEndpointTests {
+
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @Order(1)
+    void givenCustomerRequests_whenScrapePrometheus_thenLayerHistogramsArePublished() throws Exception {
+        mockMvc.perform(post(ControllerTestsConstants.CUSTOMER_PATH_ROOT)
+                        .content(TestHelpers.toJsonStr(TestHelpers.getValidCustomerData()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, -1L))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get(PROMETHEUS_PATH))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("customers_controller_seconds_bucket{")))
+                .andExpect(content().string(containsString("operation=\"createCustomer\",outcome=\"ok\"")))
+                .andExpect(content().string(containsString("operation=\"getCustomer\",outcome=\"not_found\"")))
+                .andExpect(content().string(containsString("customers_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_")))
+                .andExpect(content().string(containsString("cache=\"customer\"")));
+    }
+}
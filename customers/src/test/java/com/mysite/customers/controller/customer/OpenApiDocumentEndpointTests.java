@@ -0,0 +1,71 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.config.OpenAPIConfiguration;
+import com.mysite.customers.config.ProductionConfiguration;
+import com.mysite.customers.controller.OpenApiDocumentController;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springdoc.core.configuration.SpringDocConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test cases for the OpenAPI document generated by the build and the Swagger UI ("prod" profile).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(ProductionConfiguration.PROFILE)
+public class OpenApiDocumentEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    @Order(1)
+    void givenProdProfile_whenGetApiDocs_thenGeneratedDocumentIsReturned() throws Exception {
+        mockMvc.perform(get(OpenApiDocumentController.API_DOCS_PATH))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.info.title").value("Customer Management API"))
+                .andExpect(jsonPath("$.paths['/v1/customers/{id}'].get.summary").value("Get a specific customer."))
+                .andExpect(jsonPath("$.components.schemas.CustomerDto").exists());
+    }
+
+    @Test
+    @Order(2)
+    void givenProdProfile_whenGetSwaggerUi_thenItShowsGeneratedDocument() throws Exception {
+        mockMvc.perform(get("/swagger-ui.html"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/swagger-ui/index.html"));
+
+        mockMvc.perform(get("/swagger-ui/index.html"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("swagger-ui-bundle.js")));
+
+        mockMvc.perform(get("/swagger-ui/swagger-initializer.js"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("url: \"" + OpenApiDocumentController.API_DOCS_PATH + "\"")));
+
+        mockMvc.perform(get("/swagger-ui/swagger-ui-bundle.js"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(3)
+    void givenProdProfile_whenContextIsStarted_thenSpringdocIsNotLoaded() {
+        assertThat(applicationContext.getBeanNamesForType(SpringDocConfiguration.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(OpenAPIConfiguration.class)).isEmpty();
+    }
+}
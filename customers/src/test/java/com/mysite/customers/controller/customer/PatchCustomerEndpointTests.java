@@ -0,0 +1,120 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.ExpectedErrorMessages;
+import com.mysite.customers.ExpectedPropertyNames;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.dto.validation.ValidationErrorsDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerController#patchCustomer(long, CustomerPatchDto, String)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class PatchCustomerEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    /**
+     * Properties missing from the request body must reach the service as null (unchanged).
+     */
+    @Test
+    @Order(1)
+    void givenPartialCustomerData_whenPatchCustomer_thenStatus200AndUpdatedCustomerDataIsReturned() throws Exception {
+        var customerDto = TestHelpers.getValidCustomerDto();
+        var patchedCustomerDto = new CustomerDto(customerDto.id(), customerDto.firstName(), customerDto.lastName(), "johnny@example.com", 1);
+
+        when(customerService.patch(eq(customerDto.id()), eq(new CustomerPatchDto(null, null, "johnny@example.com")), isNull())).thenReturn(patchedCustomerDto);
+
+        mockMvc.perform(patch(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/" + customerDto.id())
+                        .content("{\"email\":\"johnny@example.com\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(patchedCustomerDto)));
+    }
+
+    @Test
+    @Order(2)
+    void givenMergePatchContentType_whenPatchCustomer_thenStatus200IsReturned() throws Exception {
+        var customerDto = TestHelpers.getValidCustomerDto();
+
+        when(customerService.patch(anyLong(), any(), any())).thenReturn(customerDto);
+
+        mockMvc.perform(patch(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/" + customerDto.id())
+                        .content("{\"lastName\":\"Doe\"}")
+                        .contentType("application/merge-patch+json"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(TestHelpers.toJsonStr(customerDto)));
+    }
+
+    @Test
+    @Order(3)
+    void givenUnknownCustomerId_whenPatchCustomer_thenStatus404AndNotFoundMessageIsReturned() throws Exception {
+        var unknownCustomerId = -1L;
+
+        when(customerService.patch(anyLong(), any(), any())).thenThrow(new NotFoundException(unknownCustomerId, "Customer"));
+
+        mockMvc.perform(patch(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/" + unknownCustomerId)
+                        .content("{\"firstName\":\"John\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.TEXT_PLAIN))
+                .andExpect(content().string(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId)));
+    }
+
+    @Test
+    @Order(4)
+    void givenInvalidEmail_whenPatchCustomer_thenStatus400AndValidationErrorsAreReturned() throws Exception {
+        var invalidEmail = "johndoeexample.com";
+
+        List<ValidationError> validationErrors = List.of(
+                new ValidationError(ExpectedPropertyNames.EMAIL, invalidEmail, ExpectedErrorMessages.Email.FORMAT)
+        );
+
+        when(customerService.patch(anyLong(), any(), any())).thenThrow(new ValidationException(validationErrors));
+
+        mockMvc.perform(patch(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                        .content(TestHelpers.toJsonStr(new CustomerPatchDto(null, null, invalidEmail)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(new ValidationErrorsDto(validationErrors))));
+    }
+
+    @Test
+    @Order(5)
+    void givenUnsupportedContentType_whenPatchCustomer_thenStatus415IsReturned() throws Exception {
+        mockMvc.perform(patch(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
+                        .content("email=johndoe@example.com")
+                        .contentType(MediaType.TEXT_PLAIN))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
@@ -0,0 +1,141 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.ExpectedErrorMessages;
+import com.mysite.customers.ExpectedPropertyNames;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.controller.ReactiveCustomerController;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.dto.validation.ValidationErrorsDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.IReactiveCustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for the {@link ReactiveCustomerController} endpoints ("reactive" profile).
+ */
+@WebFluxTest(ReactiveCustomerController.class)
+@ActiveProfiles(ReactiveConfiguration.PROFILE)
+public class ReactiveCustomerEndpointTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private IReactiveCustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenExistingCustomerId_whenGetCustomer_thenStatus200AndCustomerIsReturned() {
+        var customerDto = TestHelpers.getValidCustomerDto();
+
+        when(customerService.findById(customerDto.id())).thenReturn(Mono.just(customerDto));
+
+        webTestClient.get().uri(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, customerDto.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(CustomerDto.class).isEqualTo(customerDto);
+    }
+
+    @Test
+    @Order(2)
+    void givenUnknownCustomerId_whenGetCustomer_thenStatus404AndErrorMessageIsReturned() {
+        var unknownCustomerId = -1L;
+
+        when(customerService.findById(unknownCustomerId)).thenReturn(Mono.error(new NotFoundException(unknownCustomerId, "Customer")));
+
+        webTestClient.get().uri(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, unknownCustomerId)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_PLAIN)
+                .expectBody(String.class).isEqualTo(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId));
+    }
+
+    @Test
+    @Order(3)
+    void givenValidCustomerData_whenCreateCustomer_thenStatus201AndCreatedCustomerIsReturned() {
+        var customerDto = TestHelpers.getValidCustomerDto();
+
+        when(customerService.create(any())).thenReturn(Mono.just(customerDto));
+
+        webTestClient.post().uri(ControllerTestsConstants.CUSTOMER_PATH_ROOT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestHelpers.getValidCustomerData())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CustomerDto.class).isEqualTo(customerDto);
+    }
+
+    @Test
+    @Order(4)
+    void givenInvalidCustomerData_whenCreateCustomer_thenStatus400AndValidationErrorsAreReturned() {
+        var validationErrors = List.of(new ValidationError(ExpectedPropertyNames.FIRST_NAME, null, ExpectedErrorMessages.FirstName.REQUIRED));
+
+        when(customerService.create(any())).thenReturn(Mono.error(new ValidationException(validationErrors)));
+
+        webTestClient.post().uri(ControllerTestsConstants.CUSTOMER_PATH_ROOT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CustomerDataDto(null, "Doe", "johndoe@example.com"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(ValidationErrorsDto.class).isEqualTo(new ValidationErrorsDto(validationErrors));
+    }
+
+    @Test
+    @Order(5)
+    void givenValidCustomerData_whenUpdateCustomer_thenStatus200AndUpdatedCustomerIsReturned() {
+        var customerDto = TestHelpers.getValidCustomerDto();
+
+        when(customerService.update(anyLong(), any())).thenReturn(Mono.just(customerDto));
+
+        webTestClient.put().uri(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, customerDto.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestHelpers.getValidCustomerData())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CustomerDto.class).isEqualTo(customerDto);
+    }
+
+    @Test
+    @Order(6)
+    void givenExistingCustomerId_whenDeleteCustomer_thenStatus204IsReturned() {
+        when(customerService.deleteById(1L)).thenReturn(Mono.empty());
+
+        webTestClient.delete().uri(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, 1L)
+                .exchange()
+                .expectStatus().isNoContent()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @Order(7)
+    void givenUnknownCustomerId_whenDeleteCustomer_thenStatus404IsReturned() {
+        var unknownCustomerId = -1L;
+
+        when(customerService.deleteById(unknownCustomerId)).thenReturn(Mono.error(new NotFoundException(unknownCustomerId, "Customer")));
+
+        webTestClient.delete().uri(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.ID_PATH_VARIABLE, unknownCustomerId)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId));
+    }
+}
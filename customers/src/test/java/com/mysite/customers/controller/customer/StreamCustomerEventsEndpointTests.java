@@ -0,0 +1,143 @@
+package com.mysite.customers.controller.customer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.config.CustomerEventProperties;
+import com.mysite.customers.controller.CustomerEventController;
+import com.mysite.customers.dto.event.CustomerEventDto;
+import com.mysite.customers.dto.event.CustomerEventType;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.dto.validation.ValidationErrorsDto;
+import com.mysite.customers.service.event.CustomerEventDispatcher;
+import com.mysite.customers.service.event.CustomerEventStream;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerEventController#streamEvents(Long, String)}.
+ */
+@WebMvcTest(CustomerEventController.class)
+@EnableConfigurationProperties(CustomerEventProperties.class)
+public class StreamCustomerEventsEndpointTests {
+
+    private static final String EVENTS_PATH = ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.EVENTS_PATH;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private CustomerEventStream eventStream;
+    @MockBean
+    private CustomerEventDispatcher eventDispatcher;
+
+    @Test
+    @Order(1)
+    void givenAfter_whenStreamEvents_thenEventsAreStreamedWithSeqAsId() throws Exception {
+        var event = new CustomerEventDto(6, CustomerEventType.CREATED, 1, 0, Instant.parse("2026-10-17T10:00:00Z"), TestHelpers.getValidCustomerDto());
+
+        doAnswer(invocation -> {
+            var subscriber = invocation.getArgument(1, CustomerEventStream.Subscriber.class);
+
+            subscriber.send(List.of(event));
+            subscriber.complete();
+
+            return mock(CustomerEventStream.Subscription.class);
+        }).when(eventStream).subscribe(eq(5L), any());
+
+        var result = mockMvc.perform(get(EVENTS_PATH).param("after", "5"))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString())
+                .isEqualTo("id:6\nevent:created\ndata:" + objectMapper.writeValueAsString(event) + "\n\n");
+    }
+
+    /**
+     * A reconnecting client resumes after the last event it received, not after the position of its first request.
+     */
+    @Test
+    @Order(2)
+    void givenLastEventIdAndAfter_whenStreamEvents_thenStreamResumesAfterLastEventId() throws Exception {
+        when(eventStream.subscribe(anyLong(), any())).thenReturn(mock(CustomerEventStream.Subscription.class));
+
+        mockMvc.perform(get(EVENTS_PATH).param("after", "5").header(CustomerEventController.LAST_EVENT_ID_HEADER, "7"))
+                .andExpect(request().asyncStarted());
+
+        verify(eventStream).subscribe(eq(7L), any());
+    }
+
+    @Test
+    @Order(3)
+    void givenNoPosition_whenStreamEvents_thenOnlyNewEventsAreStreamed() throws Exception {
+        when(eventDispatcher.getLastSeq()).thenReturn(42L);
+        when(eventStream.subscribe(anyLong(), any())).thenReturn(mock(CustomerEventStream.Subscription.class));
+
+        mockMvc.perform(get(EVENTS_PATH))
+                .andExpect(request().asyncStarted());
+
+        verify(eventStream).subscribe(eq(42L), any());
+    }
+
+    @Test
+    @Order(4)
+    void givenNegativeAfter_whenStreamEvents_thenStatus400IsReturned() throws Exception {
+        var validationErrors = List.of(new ValidationError("after", "-1", "Sequence number cannot be negative."));
+
+        mockMvc.perform(get(EVENTS_PATH).param("after", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json(TestHelpers.toJsonStr(new ValidationErrorsDto(validationErrors))));
+
+        verify(eventStream, never()).subscribe(anyLong(), any());
+    }
+
+    /**
+     * The error names the header that supplied the negative value, also when a valid "after" was given too.
+     */
+    @Test
+    @Order(5)
+    void givenNegativeLastEventId_whenStreamEvents_thenStatus400IsReturned() throws Exception {
+        var validationErrors = List.of(new ValidationError(CustomerEventController.LAST_EVENT_ID_HEADER, "-3", "Sequence number cannot be negative."));
+
+        mockMvc.perform(get(EVENTS_PATH).param("after", "5").header(CustomerEventController.LAST_EVENT_ID_HEADER, "-3"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json(TestHelpers.toJsonStr(new ValidationErrorsDto(validationErrors))));
+
+        verify(eventStream, never()).subscribe(anyLong(), any());
+    }
+
+    @Test
+    @Order(6)
+    void givenMalformedLastEventId_whenStreamEvents_thenStatus400IsReturned() throws Exception {
+        mockMvc.perform(get(EVENTS_PATH).header(CustomerEventController.LAST_EVENT_ID_HEADER, "abc"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventStream, never()).subscribe(anyLong(), any());
+    }
+}
@@ -0,0 +1,65 @@
+package com.mysite.customers.controller.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.controller.CustomerController;
+import com.mysite.customers.dto.CustomerNameSuggestionDto;
+import com.mysite.customers.dto.validation.ValidationError;
+import com.mysite.customers.dto.validation.ValidationErrorsDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test cases for {@link CustomerController#suggestCustomers(String, Integer)}.
+ */
+@WebMvcTest(CustomerController.class)
+public class SuggestCustomersEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenQuery_whenSuggestCustomers_thenStatus200AndSuggestionsAreReturned() throws Exception {
+        var suggestions = List.of(new CustomerNameSuggestionDto(1L, "John", "Doe"));
+
+        when(customerService.suggest(eq("jo"), eq(5))).thenReturn(suggestions);
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.SUGGEST_PATH)
+                        .param("q", "jo")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(TestHelpers.toJsonStr(suggestions)));
+    }
+
+    @Test
+    @Order(2)
+    void givenEmptyQuery_whenSuggestCustomers_thenStatus400AndValidationErrorsAreReturned() throws Exception {
+        var validationErrors = List.of(new ValidationError("q", null, "Query must have a value."));
+
+        when(customerService.suggest(any(), any())).thenThrow(new ValidationException(validationErrors));
+
+        mockMvc.perform(get(ControllerTestsConstants.CUSTOMER_PATH_ROOT + ControllerTestsConstants.SUGGEST_PATH))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json(TestHelpers.toJsonStr(new ValidationErrorsDto(validationErrors))));
+    }
+}
@@ -30,7 +30,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
- * Test cases for {@link CustomerController#updateCustomer(long, CustomerDataDto)}.
+ * Test cases for {@link CustomerController#updateCustomer(long, CustomerDataDto, String)}.
  */
 @WebMvcTest(CustomerController.class)
 public class UpdateCustomerEndpointTests {
@@ -47,7 +47,7 @@ public class UpdateCustomerEndpointTests {
         var customerDataDto = TestHelpers.getValidCustomerData();
         var customerDto = TestHelpers.getCustomerDto(customerDataDto);
 
-        when(customerService.update(anyLong(), any())).thenReturn(customerDto);
+        when(customerService.update(anyLong(), any(), any())).thenReturn(customerDto);
 
         mockMvc.perform(put(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/" + customerDto.id())
                         .content(TestHelpers.toJsonStr(customerDataDto))
@@ -62,7 +62,7 @@ public class UpdateCustomerEndpointTests {
     void givenUnknownCustomerId_whenUpdateCustomer_thenStatus404AndNotFoundMessageIsReturned() throws Exception {
         var unknownCustomerId = -1L;
 
-        when(customerService.update(anyLong(), any())).thenThrow(new NotFoundException(unknownCustomerId, "Customer"));
+        when(customerService.update(anyLong(), any(), any())).thenThrow(new NotFoundException(unknownCustomerId, "Customer"));
 
         mockMvc.perform(put(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/" + unknownCustomerId)
                         .content(TestHelpers.toJsonStr(TestHelpers.getValidCustomerData()))
@@ -151,7 +151,7 @@ public class UpdateCustomerEndpointTests {
     @Test
     @Order(8)
     void givenNullCustomerData_whenUpdateCustomer_thenStatus400IsReturned() throws Exception {
-        when(customerService.update(anyLong(), any())).thenThrow(new IllegalArgumentException());
+        when(customerService.update(anyLong(), any(), any())).thenThrow(new IllegalArgumentException());
 
         var customerDtoJsonStr = TestHelpers.toJsonStr(null);
 
@@ -162,7 +162,7 @@ public class UpdateCustomerEndpointTests {
     }
 
     private void testInvalidCustomerDataInputs(CustomerDataDto customerDataDto, List<ValidationError> validationErrors) throws Exception {
-        when(customerService.update(anyLong(), any())).thenThrow(new ValidationException(validationErrors));
+        when(customerService.update(anyLong(), any(), any())).thenThrow(new ValidationException(validationErrors));
 
         mockMvc.perform(put(ControllerTestsConstants.CUSTOMER_PATH_ROOT + "/1")
                         .content(TestHelpers.toJsonStr(customerDataDto))
@@ -0,0 +1,90 @@
+package com.mysite.customers.domain;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+/**
+ * Purpose of these tests is to make sure that the hand-written e-mail format check matches the documented regex pattern.
+ */
+public class CustomerValidatorTests {
+    private static final Pattern EMAIL_REGEX = Pattern.compile("^[a-z]+@[a-z]+\\.[a-z]+$");
+
+    /*
+     * Characters that are significant to the pattern (letter range boundaries, separators, line terminators) plus a few others.
+     */
+    private static final char[] EMAIL_ALPHABET = {'a', 'b', 'y', 'z', '`', '{', 'A', 'Z', '0', '@', '.', '-', ' ', '\n', '\r', 'ä', '\u0000'};
+
+    @Test
+    void givenValidData_whenEnsureValidity_thenNoExceptionIsThrown() {
+        var validCustomerData = TestHelpers.getValidCustomerData();
+
+        assertThatNoException().isThrownBy(() -> CustomerValidator.ensureValidity(
+                validCustomerData.firstName(),
+                validCustomerData.lastName(),
+                validCustomerData.email()));
+    }
+
+    @Test
+    void givenAllValuesInvalid_whenEnsureValidity_thenErrorForEachPropertyIsReturned() {
+        assertThatExceptionOfType(ValidationException.class)
+                .isThrownBy(() -> CustomerValidator.ensureValidity(null, "", "johndoe@example"))
+                .satisfies(ex -> {
+                    assertThat(ex.getErrors()).hasSize(3);
+                    TestHelpers.hasValidationError(ex.getErrors(), Customer.FIRST_NAME_PROP_NAME, null, "First name must have a value.");
+                    TestHelpers.hasValidationError(ex.getErrors(), Customer.LAST_NAME_PROP_NAME, "", "Last name must be between 1 and 50 characters long.");
+                    TestHelpers.hasValidationError(ex.getErrors(), Customer.EMAIL_PROP_NAME, "johndoe@example", "E-mail has an incorrect format. See the API documentation for the correct format.");
+                });
+    }
+
+    @Test
+    void givenEmailExamples_whenHasValidEmailFormat_thenResultMatchesRegex() {
+        assertMatchesRegex("johndoe@example.com");
+        assertMatchesRegex("a@b.c");
+        assertMatchesRegex("johndoe@example.com\n");
+        assertMatchesRegex("");
+
+        for (var email : TestHelpers.getInvalidEmailValueExamples()) {
+            assertMatchesRegex(email);
+        }
+    }
+
+    @Test
+    void givenRandomEmails_whenHasValidEmailFormat_thenResultMatchesRegex() {
+        // Fixed seed, so a failure can be reproduced.
+        var random = new Random(20241017L);
+
+        for (var i = 0; i < 200_000; i++) {
+            var email = new StringBuilder();
+            var length = random.nextInt(12);
+
+            for (var j = 0; j < length; j++) {
+                // Letters are picked more often, so that a meaningful share of the inputs are valid e-mails.
+                email.append(random.nextInt(3) == 0
+                        ? EMAIL_ALPHABET[random.nextInt(EMAIL_ALPHABET.length)]
+                        : (char) ('a' + random.nextInt(26)));
+            }
+
+            // Insert the separators at random places to produce near-valid inputs.
+            if (length > 2 && random.nextBoolean()) {
+                email.setCharAt(random.nextInt(length), '@');
+                email.setCharAt(random.nextInt(length), '.');
+            }
+
+            assertMatchesRegex(email.toString());
+        }
+    }
+
+    private static void assertMatchesRegex(String email) {
+        assertThat(CustomerValidator.hasValidEmailFormat(email))
+                .as("E-mail format check of \"%s\"", email)
+                .isEqualTo(EMAIL_REGEX.matcher(email).matches());
+    }
+}
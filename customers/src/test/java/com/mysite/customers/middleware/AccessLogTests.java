@@ -0,0 +1,175 @@
+package com.mysite.customers.middleware;
+
+import com.mysite.customers.middleware.accesslog.AccessLogEntry;
+import com.mysite.customers.middleware.accesslog.AccessLogFilter;
+import com.mysite.customers.middleware.accesslog.AccessLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link AccessLogFilter} and {@link AccessLogWriter}.
+ */
+public class AccessLogTests {
+
+    private static final String REQUEST_BODY = "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"johndoe@example.com\"}";
+    private static final String RESPONSE_BODY = "{\"id\":1}";
+
+    @Test
+    void givenSuccessfulRequest_whenFilter_thenEntryWithByteCountsAndWithoutPayloadIsWritten() throws Exception {
+        var entry = filterAndCaptureEntry(1.0, 1000, HttpServletResponse.SC_CREATED);
+
+        assertThat(entry.method()).isEqualTo("POST");
+        assertThat(entry.path()).isEqualTo("/v1/customers");
+        assertThat(entry.status()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(entry.requestBytes()).isEqualTo(REQUEST_BODY.length());
+        assertThat(entry.responseBytes()).isEqualTo(RESPONSE_BODY.length());
+        assertThat(entry.durationMicros()).isNotNegative();
+        assertThat(entry.payload()).isNull();
+    }
+
+    @Test
+    void givenFailedRequest_whenFilter_thenEntryWithPayloadIsWritten() throws Exception {
+        var entry = filterAndCaptureEntry(1.0, 1000, HttpServletResponse.SC_BAD_REQUEST);
+
+        assertThat(entry.status()).isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(new String(entry.payload(), StandardCharsets.UTF_8)).isEqualTo(REQUEST_BODY);
+    }
+
+    @Test
+    void givenMaxPayloadLength_whenFilterFailedRequest_thenPayloadIsTruncated() throws Exception {
+        var entry = filterAndCaptureEntry(1.0, 10, HttpServletResponse.SC_BAD_REQUEST);
+
+        assertThat(new String(entry.payload(), StandardCharsets.UTF_8)).isEqualTo(REQUEST_BODY.substring(0, 10));
+        assertThat(entry.requestBytes()).isEqualTo(REQUEST_BODY.length());
+    }
+
+    @Test
+    void givenBodyReadByteByByte_whenFilterFailedRequest_thenPayloadIsCaptured() throws Exception {
+        var accessLogWriter = mock(AccessLogWriter.class);
+        var filter = new AccessLogFilter(accessLogWriter, 1.0, 10);
+
+        filter.doFilter(createRequest(), new MockHttpServletResponse(), (request, response) -> {
+            var inputStream = request.getInputStream();
+
+            while (inputStream.read() != -1) {
+                // read to the end one byte at a time
+            }
+
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        });
+
+        var entryCaptor = ArgumentCaptor.forClass(AccessLogEntry.class);
+
+        verify(accessLogWriter).offer(entryCaptor.capture());
+
+        assertThat(new String(entryCaptor.getValue().payload(), StandardCharsets.UTF_8)).isEqualTo(REQUEST_BODY.substring(0, 10));
+        assertThat(entryCaptor.getValue().requestBytes()).isEqualTo(REQUEST_BODY.length());
+    }
+
+    @Test
+    void givenAsyncRequest_whenAsyncContextCompletes_thenEntryWithFinalStatusAndByteCountsIsWritten() throws Exception {
+        var accessLogWriter = mock(AccessLogWriter.class);
+        var filter = new AccessLogFilter(accessLogWriter, 1.0, 1000);
+        var request = createRequest();
+        var asyncContext = new AtomicReference<AsyncContext>();
+
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (filteredRequest, filteredResponse) -> {
+            asyncContext.set(filteredRequest.startAsync(filteredRequest, filteredResponse));
+            filteredResponse.getOutputStream().write(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8));
+        });
+
+        verify(accessLogWriter, never()).offer(any());
+
+        // The rest of the response is written after the request thread has left the filter, like an event stream.
+        var asyncResponse = (HttpServletResponse) asyncContext.get().getResponse();
+
+        asyncResponse.getOutputStream().write(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8));
+        asyncResponse.setStatus(HttpServletResponse.SC_OK);
+        asyncContext.get().complete();
+
+        var entryCaptor = ArgumentCaptor.forClass(AccessLogEntry.class);
+
+        verify(accessLogWriter).offer(entryCaptor.capture());
+
+        assertThat(entryCaptor.getValue().status()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(entryCaptor.getValue().responseBytes()).isEqualTo(2L * RESPONSE_BODY.length());
+    }
+
+    @Test
+    void givenZeroSampleRate_whenFilter_thenOnlyFailedRequestsAreWritten() throws Exception {
+        var accessLogWriter = mock(AccessLogWriter.class);
+        var filter = new AccessLogFilter(accessLogWriter, 0.0, 1000);
+
+        filter.doFilter(createRequest(), new MockHttpServletResponse(), createFilterChain(HttpServletResponse.SC_CREATED));
+
+        verify(accessLogWriter, never()).offer(any());
+
+        filter.doFilter(createRequest(), new MockHttpServletResponse(), createFilterChain(HttpServletResponse.SC_NOT_FOUND));
+
+        verify(accessLogWriter).offer(any());
+    }
+
+    @Test
+    void givenFullQueue_whenOffer_thenEntryIsDroppedAndCounted() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var accessLogWriter = new AccessLogWriter(1, meterRegistry);
+        var entry = new AccessLogEntry("GET", "/v1/customers/1", null, 200, 1, 0, 0, null);
+
+        // The writer is not started, so nothing is taken from the queue.
+        assertThat(accessLogWriter.offer(entry)).isTrue();
+        assertThat(accessLogWriter.offer(entry)).isFalse();
+
+        assertThat(meterRegistry.get("customers.access_log.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private static AccessLogEntry filterAndCaptureEntry(double sampleRate, int maxPayloadLength, int status) throws Exception {
+        var accessLogWriter = mock(AccessLogWriter.class);
+        var filter = new AccessLogFilter(accessLogWriter, sampleRate, maxPayloadLength);
+
+        filter.doFilter(createRequest(), new MockHttpServletResponse(), createFilterChain(status));
+
+        var entryCaptor = ArgumentCaptor.forClass(AccessLogEntry.class);
+
+        verify(accessLogWriter).offer(entryCaptor.capture());
+
+        return entryCaptor.getValue();
+    }
+
+    private static MockHttpServletRequest createRequest() {
+        var request = new MockHttpServletRequest("POST", "/v1/customers");
+
+        request.setContent(REQUEST_BODY.getBytes(StandardCharsets.UTF_8));
+
+        return request;
+    }
+
+    /*
+     * Reads the whole request body and writes a response, like a controller would.
+     */
+    private static FilterChain createFilterChain(int status) {
+        return (request, response) -> {
+            StreamUtils.copyToByteArray(request.getInputStream());
+
+            ((HttpServletResponse) response).setStatus(status);
+            response.getOutputStream().write(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
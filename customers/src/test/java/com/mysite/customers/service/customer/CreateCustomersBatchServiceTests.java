@@ -0,0 +1,95 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.ExpectedErrorMessages;
+import com.mysite.customers.ExpectedPropertyNames;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Test cases for {@link ICustomerService#createBatch(List)}.
+ */
+@SpringBootTest
+public class CreateCustomersBatchServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenValidCustomersData_whenCreateBatch_thenAllCustomersAreCreated() throws NotFoundException {
+        var newCustomersData = List.of(
+                TestHelpers.getValidCustomerData(),
+                new CustomerDataDto("Jane", "Doe", "janedoe@example.com"));
+
+        var result = customerService.createBatch(newCustomersData);
+
+        assertThat(result.createdCount()).isEqualTo(2);
+        assertThat(result.rejectedCount()).isZero();
+        assertThat(result.results()).hasSize(2);
+
+        for (int i = 0; i < newCustomersData.size(); i++) {
+            var itemResult = result.results().get(i);
+
+            assertThat(itemResult.index()).isEqualTo(i);
+            assertThat(itemResult.errors()).isNull();
+            assertThat(itemResult.customer().email()).isEqualTo(newCustomersData.get(i).email());
+
+            assertThat(customerService.findById(itemResult.customer().id())).isEqualTo(itemResult.customer());
+        }
+    }
+
+    @Test
+    @Order(2)
+    void givenMixedCustomersData_whenCreateBatch_thenValidCustomersAreCreatedAndInvalidOnesHaveErrors() {
+        var invalidCustomerData = new CustomerDataDto(TestHelpers.getValidCustomerData().firstName(), "", "johndoe@example.");
+
+        var result = customerService.createBatch(Arrays.asList(
+                invalidCustomerData,
+                TestHelpers.getValidCustomerData()));
+
+        assertThat(result.createdCount()).isEqualTo(1);
+        assertThat(result.rejectedCount()).isEqualTo(1);
+
+        var rejectedItem = result.results().get(0);
+
+        assertThat(rejectedItem.customer()).isNull();
+        assertThat(rejectedItem.errors()).hasSize(2);
+        TestHelpers.hasValidationError(rejectedItem.errors(), ExpectedPropertyNames.LAST_NAME, invalidCustomerData.lastName(), ExpectedErrorMessages.LastName.SIZE);
+        TestHelpers.hasValidationError(rejectedItem.errors(), ExpectedPropertyNames.EMAIL, invalidCustomerData.email(), ExpectedErrorMessages.Email.FORMAT);
+
+        var createdItem = result.results().get(1);
+
+        assertThat(createdItem.index()).isEqualTo(1);
+        assertThat(createdItem.errors()).isNull();
+        assertThat(createdItem.customer().id()).isGreaterThan(0L);
+    }
+
+    @Test
+    @Order(3)
+    void givenEmptyList_whenCreateBatch_thenEmptyResultIsReturned() {
+        var result = customerService.createBatch(List.of());
+
+        assertThat(result.createdCount()).isZero();
+        assertThat(result.rejectedCount()).isZero();
+        assertThat(result.results()).isEmpty();
+    }
+
+    @Test
+    @Order(4)
+    void givenNullList_whenCreateBatch_thenIllegalArgumentExceptionIsThrown() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> customerService.createBatch(null));
+    }
+}
@@ -0,0 +1,91 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.config.CacheConfiguration;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Test cases for the customer DTO read-through cache used by {@link ICustomerService#findById(long)}.
+ */
+@SpringBootTest
+public class CustomerCacheServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache customersCache;
+
+    @BeforeEach
+    void setUp() {
+        customersCache = cacheManager.getCache(CacheConfiguration.CUSTOMERS_CACHE);
+    }
+
+    @Test
+    @Order(1)
+    void givenExistingCustomer_whenFindByIdTwice_thenSameCachedInstanceIsReturned() throws ValidationException, NotFoundException {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+
+        assertThat(customersCache.get(customer.id())).isNull();
+
+        var firstResult = customerService.findById(customer.id());
+        var secondResult = customerService.findById(customer.id());
+
+        assertThat(customersCache.get(customer.id())).isNotNull();
+        assertThat(secondResult).isSameAs(firstResult);
+    }
+
+    @Test
+    @Order(2)
+    void givenCachedCustomer_whenUpdate_thenCacheEntryIsEvictedAndNewDataIsReturned() throws ValidationException, NotFoundException, PreconditionFailedException {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+
+        customerService.findById(customer.id());
+
+        customerService.update(customer.id(), new CustomerDataDto("Jane", customer.lastName(), customer.email()), null);
+
+        assertThat(customersCache.get(customer.id())).isNull();
+        assertThat(customerService.findById(customer.id()).firstName()).isEqualTo("Jane");
+    }
+
+    @Test
+    @Order(3)
+    void givenCachedCustomer_whenDeleteById_thenCacheEntryIsEvictedAndCustomerIsNotFound() throws ValidationException, NotFoundException, PreconditionFailedException {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+
+        customerService.findById(customer.id());
+
+        customerService.deleteById(customer.id(), null);
+
+        assertThat(customersCache.get(customer.id())).isNull();
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.findById(customer.id()));
+    }
+
+    @Test
+    @Order(4)
+    void givenUnknownCustomerId_whenFindById_thenNothingIsCached() {
+        var unknownCustomerId = -1L;
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.findById(unknownCustomerId));
+
+        assertThat(customersCache.get(unknownCustomerId)).isNull();
+    }
+}
@@ -0,0 +1,81 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.ServiceThreadRecorder;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.config.CacheConfiguration;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Test cases for the customer DTO cache when requests are executed on virtual threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+@Import(ServiceThreadRecorder.class)
+public class CustomerCacheVirtualThreadsServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Autowired
+    private ServiceThreadRecorder serviceThreadRecorder;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @Order(1)
+    void givenVirtualThreads_whenGetCache_thenSynchronousCaffeineCacheIsUsed() {
+        var customersCache = (CaffeineCache) cacheManager.getCache(CacheConfiguration.CUSTOMERS_CACHE);
+
+        assertThat(customersCache).isNotNull();
+        // The async cache is only available in async cache mode.
+        assertThatIllegalStateException().isThrownBy(customersCache::getAsyncCache);
+    }
+
+    @Test
+    @Order(2)
+    void givenExistingCustomer_whenFindByIdOnVirtualThreads_thenSameCachedInstanceIsReturned() throws Exception {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var firstResult = executor.submit(() -> customerService.findById(customer.id()));
+            var secondResult = executor.submit(() -> customerService.findById(customer.id()));
+
+            assertThat(secondResult.get()).isSameAs(firstResult.get());
+        }
+    }
+
+    /**
+     * The service is reached through Tomcat and the whole filter / controller chain, like in production.
+     */
+    @Test
+    @Order(3)
+    void givenVirtualThreads_whenGetCustomerRequest_thenServiceIsCalledOnVirtualThread() throws Exception {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+
+        serviceThreadRecorder.getThreads().clear();
+
+        var response = restTemplate.getForEntity("/v1/customers/{id}", CustomerDto.class, customer.id());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(serviceThreadRecorder.getThreads()).isNotEmpty().allMatch(Thread::isVirtual);
+    }
+}
@@ -0,0 +1,309 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.dto.event.CustomerEventDto;
+import com.mysite.customers.dto.event.CustomerEventType;
+import com.mysite.customers.repository.event.CustomerEventRepository;
+import com.mysite.customers.service.ICustomerService;
+import com.mysite.customers.service.event.CustomerEventDispatcher;
+import com.mysite.customers.service.event.CustomerEventStream;
+import com.mysite.customers.service.event.ICustomerEventSink;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Test cases for the customer change events (transactional outbox, {@link CustomerEventDispatcher}).
+ * The dispatcher delivers in the background, so the tests wait for the expected events.
+ */
+@SpringBootTest
+public class CustomerEventServiceTests {
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private CustomerEventDispatcher eventDispatcher;
+    @Autowired
+    private CustomerEventStream eventStream;
+    @Autowired
+    private RecordingEventSink eventSink;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private CustomerEventRepository eventRepository;
+
+    @TestConfiguration
+    static class EventSinkConfiguration {
+        @Bean
+        RecordingEventSink recordingEventSink() {
+            return new RecordingEventSink();
+        }
+    }
+
+    /**
+     * Durable sink that keeps every delivered event and fails the requested number of deliveries of batches
+     * with an event of a customer with the given e-mail address.
+     */
+    static class RecordingEventSink implements ICustomerEventSink {
+        private final List<CustomerEventDto> events = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private final AtomicInteger failedDeliveries = new AtomicInteger();
+        private volatile String failingEmail;
+
+        @Override
+        public String getName() {
+            return "test-recording-sink";
+        }
+
+        @Override
+        public void deliver(List<CustomerEventDto> events) {
+            var failing = events.stream().anyMatch(event -> event.customer().email().equals(failingEmail));
+
+            if (failing && failuresLeft.getAndUpdate(failures -> Math.max(failures - 1, 0)) > 0) {
+                failedDeliveries.incrementAndGet();
+
+                throw new IllegalStateException("Delivery failed on purpose");
+            }
+
+            this.events.addAll(events);
+        }
+
+        List<CustomerEventDto> getEvents(long customerId) {
+            return events.stream().filter(event -> event.customerId() == customerId).toList();
+        }
+    }
+
+    /**
+     * Every change is one event with the state after it (before it, for the deletion), all in the order they were made.
+     */
+    @Test
+    @Order(1)
+    void givenCustomerChanges_whenDispatched_thenSinkReceivesEventsInOrder() throws Exception {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        customerService.update(newCustomer.id(), new CustomerDataDto("Jane", "Doe", "janedoe@example.com"), null);
+        var patchedCustomer = customerService.patch(newCustomer.id(), new CustomerPatchDto(null, "Smith", null), null);
+        customerService.deleteById(newCustomer.id(), null);
+
+        waitUntil(() -> eventSink.getEvents(newCustomer.id()).size() >= 4);
+
+        var events = eventSink.getEvents(newCustomer.id());
+
+        assertThat(events).extracting(CustomerEventDto::type)
+                .containsExactly(CustomerEventType.CREATED, CustomerEventType.UPDATED, CustomerEventType.UPDATED, CustomerEventType.DELETED);
+        assertThat(events).extracting(CustomerEventDto::customerVersion).containsExactly(0L, 1L, 2L, 2L);
+        assertThat(events).extracting(CustomerEventDto::seq).isSorted().doesNotHaveDuplicates();
+        assertThat(events.getFirst().customer()).isEqualTo(newCustomer);
+        assertThat(events.getLast().customer()).isEqualTo(patchedCustomer);
+        assertThat(patchedCustomer).isEqualTo(new CustomerDto(newCustomer.id(), "Jane", "Smith", "janedoe@example.com", 2, patchedCustomer.modifiedTime()));
+    }
+
+    @Test
+    @Order(2)
+    void givenBatchCreationAndDeletion_whenDispatched_thenSinkReceivesEventPerCustomer() throws Exception {
+        var results = customerService.createBatch(List.of(TestHelpers.getValidCustomerData(), TestHelpers.getValidCustomerData())).results();
+        var ids = results.stream().map(result -> result.customer().id()).toList();
+
+        customerService.deleteByIds(ids);
+
+        waitUntil(() -> ids.stream().allMatch(id -> eventSink.getEvents(id).size() >= 2));
+
+        for (var id : ids) {
+            assertThat(eventSink.getEvents(id)).extracting(CustomerEventDto::type).containsExactly(CustomerEventType.CREATED, CustomerEventType.DELETED);
+        }
+    }
+
+    /**
+     * The event is part of the transaction of the change: a rolled back change leaves no event behind.
+     */
+    @Test
+    @Order(3)
+    void givenRolledBackCreation_whenCreate_thenNoEventIsWritten() {
+        var rolledBackCustomer = new TransactionTemplate(transactionManager).execute(status -> {
+            try {
+                return customerService.create(TestHelpers.getValidCustomerData());
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            } finally {
+                status.setRollbackOnly();
+            }
+        });
+
+        assertThat(rolledBackCustomer).isNotNull();
+        assertThat(countEvents(rolledBackCustomer.id())).isZero();
+    }
+
+    /**
+     * A failed delivery does not advance the sink's position, the same events are delivered again.
+     */
+    @Test
+    @Order(4)
+    void givenFailingSink_whenDispatched_thenEventsAreDeliveredAgain() throws Exception {
+        eventSink.failingEmail = "failingsink@example.com";
+        eventSink.failuresLeft.set(2);
+
+        var newCustomer = customerService.create(new CustomerDataDto("John", "Doe", eventSink.failingEmail));
+
+        waitUntil(() -> !eventSink.getEvents(newCustomer.id()).isEmpty());
+
+        assertThat(eventSink.failedDeliveries.get()).isEqualTo(2);
+        assertThat(eventSink.getEvents(newCustomer.id())).extracting(CustomerEventDto::type).containsExactly(CustomerEventType.CREATED);
+    }
+
+    /**
+     * Events delivered to every durable sink are deleted, but the newest one is kept, so the sequence continues after it.
+     */
+    @Test
+    @Order(5)
+    void givenDeliveredEvents_whenPrune_thenDeliveredEventsAreDeleted() throws Exception {
+        var deletedCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        customerService.deleteById(deletedCustomer.id(), null);
+
+        var newestCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        waitUntil(() -> !eventSink.getEvents(newestCustomer.id()).isEmpty());
+
+        var newestSeq = eventSink.getEvents(newestCustomer.id()).getFirst().seq();
+
+        assertThat(eventDispatcher.prune(Instant.now().plusSeconds(1))).isPositive();
+        assertThat(countEvents(deletedCustomer.id())).isZero();
+
+        var nextCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        waitUntil(() -> !eventSink.getEvents(nextCustomer.id()).isEmpty());
+
+        assertThat(eventSink.getEvents(nextCustomer.id()).getFirst().seq()).isGreaterThan(newestSeq);
+    }
+
+    /**
+     * A stream subscriber first gets the kept events after its position from the table, then the new ones.
+     */
+    @Test
+    @Order(6)
+    void givenStreamSubscriber_whenCustomerChanges_thenStoredAndNewEventsAreStreamed() throws Exception {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        waitUntil(() -> !eventSink.getEvents(newCustomer.id()).isEmpty());
+
+        var afterSeq = eventSink.getEvents(newCustomer.id()).getFirst().seq() - 1;
+        var streamedEvents = new CopyOnWriteArrayList<CustomerEventDto>();
+        var subscription = eventStream.subscribe(afterSeq, new CustomerEventStream.Subscriber() {
+            @Override
+            public void send(List<CustomerEventDto> events) {
+                streamedEvents.addAll(events);
+            }
+
+            @Override
+            public void heartbeat() {
+            }
+
+            @Override
+            public void complete() {
+            }
+        });
+
+        try {
+            customerService.deleteById(newCustomer.id(), null);
+
+            waitUntil(() -> streamedEvents.stream().anyMatch(event -> event.type() == CustomerEventType.DELETED && event.customerId() == newCustomer.id()));
+
+            assertThat(streamedEvents.getFirst().seq()).isEqualTo(afterSeq + 1);
+            assertThat(streamedEvents).extracting(CustomerEventDto::seq).isSorted().doesNotHaveDuplicates();
+        } finally {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * A subscriber that has caught up gets the new events from the dispatcher's batches, without querying the table itself.
+     */
+    @Test
+    @Order(7)
+    void givenCaughtUpStreamSubscriber_whenCustomerChanges_thenEventsAreStreamedWithoutQueries() throws Exception {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        waitUntil(() -> !eventSink.getEvents(newCustomer.id()).isEmpty());
+
+        var streamQueryCount = new AtomicInteger();
+
+        doAnswer(invocation -> {
+            if (Thread.currentThread().isVirtual()) streamQueryCount.incrementAndGet();
+
+            return invocation.callRealMethod();
+        }).when(eventRepository).findAfter(anyLong(), anyInt());
+
+        var streamedEvents = new CopyOnWriteArrayList<CustomerEventDto>();
+        var subscription = eventStream.subscribe(eventSink.getEvents(newCustomer.id()).getFirst().seq() - 1, new CustomerEventStream.Subscriber() {
+            @Override
+            public void send(List<CustomerEventDto> events) {
+                streamedEvents.addAll(events);
+            }
+
+            @Override
+            public void heartbeat() {
+            }
+
+            @Override
+            public void complete() {
+            }
+        });
+
+        try {
+            waitUntil(() -> !streamedEvents.isEmpty());
+
+            var catchUpQueryCount = streamQueryCount.get();
+
+            for (int i = 0; i < 3; i++) {
+                customerService.patch(newCustomer.id(), new CustomerPatchDto(null, "Smith" + (char) ('a' + i), null), null);
+            }
+
+            waitUntil(() -> streamedEvents.stream().filter(event -> event.customerId() == newCustomer.id()).count() >= 4);
+
+            assertThat(streamQueryCount.get()).isEqualTo(catchUpQueryCount);
+        } finally {
+            subscription.cancel();
+        }
+    }
+
+    private int countEvents(long customerId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_event WHERE customer_id = ?", Integer.class, customerId);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("Timed out waiting for customer events").isLessThan(deadline);
+
+            Thread.sleep(20);
+        }
+    }
+}
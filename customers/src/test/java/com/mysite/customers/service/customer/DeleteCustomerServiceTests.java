@@ -2,9 +2,12 @@ package com.mysite.customers.service.customer;
 
 import com.mysite.customers.TestHelpers;
 import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
 import com.mysite.customers.exception.ValidationException;
 import com.mysite.customers.repository.ICustomerRepository;
 import com.mysite.customers.service.ICustomerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,7 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
- * Test cases for {@link ICustomerService#deleteById(Long)}.
+ * Test cases for {@link ICustomerService#deleteById(long, Long)}.
  */
 @SpringBootTest
 public class DeleteCustomerServiceTests {
@@ -23,15 +26,17 @@ public class DeleteCustomerServiceTests {
     private ICustomerService customerService;
     @Autowired
     private ICustomerRepository customerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     @Order(1)
-    void givenExistingCustomerId_whenDeleteById_thenCustomerIsRemovedFromDb() throws ValidationException, NotFoundException {
+    void givenExistingCustomerId_whenDeleteById_thenCustomerIsRemovedFromDb() throws ValidationException, NotFoundException, PreconditionFailedException {
         var customer = customerService.create(TestHelpers.getValidCustomerData());
 
         assertThat(customer).isNotNull();
 
-        customerService.deleteById(customer.id());
+        customerService.deleteById(customer.id(), null);
 
         var deletedCustomer = customerRepository.findById(customer.id()).orElse(null);
 
@@ -43,8 +48,38 @@ public class DeleteCustomerServiceTests {
     void givenUnknownCustomerId_whenDeleteById_thenNotFoundExceptionIsThrown() {
         var unknownCustomerId = -1L;
 
-        assertThatThrownBy(() -> customerService.deleteById(unknownCustomerId))
+        assertThatThrownBy(() -> customerService.deleteById(unknownCustomerId, null))
                .isInstanceOf(NotFoundException.class)
                .hasMessage(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId));
     }
+
+    /**
+     * Deleting must not load the customer first: a single DELETE statement is executed.
+     */
+    @Test
+    @Order(3)
+    void givenExistingCustomerId_whenDeleteById_thenSingleStatementIsExecuted() throws ValidationException, NotFoundException, PreconditionFailedException {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        customerService.deleteById(customer.id(), null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * A cached customer must not be returned after it was deleted.
+     */
+    @Test
+    @Order(4)
+    void givenCachedCustomer_whenDeleteById_thenFindByIdThrowsNotFoundException() throws ValidationException, NotFoundException, PreconditionFailedException {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+
+        customerService.findById(customer.id());
+        customerService.deleteById(customer.id(), null);
+
+        assertThatThrownBy(() -> customerService.findById(customer.id()))
+                .isInstanceOf(NotFoundException.class);
+    }
 }
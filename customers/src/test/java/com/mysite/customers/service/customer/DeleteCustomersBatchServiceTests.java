@@ -0,0 +1,106 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.repository.ICustomerRepository;
+import com.mysite.customers.service.ICustomerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test cases for {@link ICustomerService#deleteByIds(List)}.
+ */
+@SpringBootTest(properties = "customers.bulk.max-ids=5")
+public class DeleteCustomersBatchServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private ICustomerRepository customerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Found customers are deleted with a single statement, unknown and duplicate IDs are reported once as missing.
+     */
+    @Test
+    @Order(1)
+    void givenExistingAndUnknownIds_whenDeleteByIds_thenExistingAreDeletedAndUnknownAreReported() throws ValidationException, NotFoundException {
+        var first = customerService.create(TestHelpers.getValidCustomerData());
+        var second = customerService.create(TestHelpers.getValidCustomerData());
+
+        customerService.findById(first.id()); // cached
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var result = customerService.deleteByIds(List.of(-2L, first.id(), second.id(), -1L, -2L));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        assertThat(result.deletedCount()).isEqualTo(2);
+        assertThat(result.missingIds()).containsExactly(-2L, -1L);
+
+        assertThat(customerRepository.existsById(first.id())).isFalse();
+        assertThat(customerRepository.existsById(second.id())).isFalse();
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.findById(first.id()));
+    }
+
+    @Test
+    @Order(2)
+    void givenOnlyUnknownIds_whenDeleteByIds_thenAllAreReportedAsMissing() throws ValidationException {
+        var result = customerService.deleteByIds(List.of(-1L, -2L));
+
+        assertThat(result.deletedCount()).isZero();
+        assertThat(result.missingIds()).containsExactly(-1L, -2L);
+    }
+
+    @Test
+    @Order(3)
+    void givenNoIds_whenDeleteByIds_thenValidationExceptionIsThrown() {
+        assertThatExceptionOfType(ValidationException.class)
+                .isThrownBy(() -> customerService.deleteByIds(List.of()))
+                .satisfies(ex -> TestHelpers.hasValidationError(ex.getErrors(), "ids", "0", "Number of IDs must be between 1 and 5."));
+    }
+
+    /**
+     * Duplicates do not count towards the limit, so only distinct IDs over the limit are rejected.
+     */
+    @Test
+    @Order(4)
+    void givenTooManyDistinctIds_whenDeleteByIds_thenValidationExceptionIsThrown() throws ValidationException {
+        var duplicateIds = new ArrayList<Long>();
+
+        for (int i = 0; i < 10; i++) duplicateIds.add(-1L);
+
+        assertThat(customerService.deleteByIds(duplicateIds).missingIds()).containsExactly(-1L);
+
+        assertThatExceptionOfType(ValidationException.class)
+                .isThrownBy(() -> customerService.deleteByIds(LongStream.rangeClosed(-6, -1).boxed().toList()))
+                .satisfies(ex -> TestHelpers.hasValidationError(ex.getErrors(), "ids", "6", "Number of IDs must be between 1 and 5."));
+    }
+
+    @Test
+    @Order(5)
+    void givenNullIds_whenDeleteByIds_thenIllegalArgumentExceptionIsThrown() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> customerService.deleteByIds(null));
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> customerService.deleteByIds(Arrays.asList(1L, null)));
+    }
+}
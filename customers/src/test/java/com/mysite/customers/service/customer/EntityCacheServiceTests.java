@@ -0,0 +1,170 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.domain.Customer;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.repository.ICustomerRepository;
+import com.mysite.customers.service.ICustomerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test cases for the second-level cache of Customer entities and the query cache.
+ */
+@SpringBootTest
+public class EntityCacheServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private ICustomerRepository customerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Every transaction has its own persistence context, so only the second-level cache can serve the repeated reads.
+     */
+    @Test
+    @Order(1)
+    void givenCachedCustomer_whenFindByIdInSeparateTransactions_thenNoStatementIsExecuted() throws ValidationException {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        var statistics = getStatistics();
+
+        statistics.clear();
+
+        for (int i = 0; i < 3; i++) {
+            var customer = transactionTemplate.execute(status -> customerRepository.findById(newCustomer.id()).orElseThrow());
+
+            assertThat(customer.getEmail()).isEqualTo(newCustomer.email());
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(3);
+        assertThat(statistics.getCacheRegionStatistics(Customer.CACHE_REGION).getHitCount()).isEqualTo(3);
+    }
+
+    /**
+     * PATCH is a native statement, which Hibernate does not track, the patched customer must not be served from the cache.
+     */
+    @Test
+    @Order(2)
+    void givenCachedCustomer_whenPatch_thenPatchedStateIsRead() throws ValidationException, NotFoundException, PreconditionFailedException {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        assertThat(customerRepository.findById(newCustomer.id()).orElseThrow().getFirstName()).isEqualTo(newCustomer.firstName());
+
+        customerService.patch(newCustomer.id(), new CustomerPatchDto("Jane", null, null), null);
+
+        var customer = customerRepository.findById(newCustomer.id()).orElseThrow();
+
+        assertThat(customer.getFirstName()).isEqualTo("Jane");
+        assertThat(customer.getVersion()).isEqualTo(1);
+    }
+
+    /**
+     * Cached query results stay valid until the customer table changes, also by a native statement.
+     */
+    @Test
+    @Order(3)
+    void givenCachedVersionQuery_whenRepeatedAndAfterPatch_thenCachedUntilChanged() throws ValidationException, NotFoundException, PreconditionFailedException {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+        var statistics = getStatistics();
+
+        assertThat(customerService.getVersion(newCustomer.id()).version()).isZero();
+
+        statistics.clear();
+
+        assertThat(customerService.getVersion(newCustomer.id()).version()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        customerService.patch(newCustomer.id(), new CustomerPatchDto(null, "Smith", null), null);
+
+        assertThat(customerService.getVersion(newCustomer.id()).version()).isEqualTo(1);
+    }
+
+    /**
+     * Bulk DELETE is a native statement as well, neither the entity nor a cached query result may outlive it.
+     */
+    @Test
+    @Order(4)
+    void givenCachedCustomer_whenDeleteByIds_thenCustomerIsNotFound() throws ValidationException {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        assertThat(customerRepository.findById(newCustomer.id())).isPresent();
+        assertThat(customerRepository.findByEmailOrderByIdAsc(newCustomer.email())).extracting(Customer::getId).contains(newCustomer.id());
+
+        customerService.deleteByIds(List.of(newCustomer.id()));
+
+        assertThat(customerRepository.findById(newCustomer.id())).isEmpty();
+        assertThat(customerRepository.findByEmailOrderByIdAsc(newCustomer.email())).extracting(Customer::getId).doesNotContain(newCustomer.id());
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.getVersion(newCustomer.id()));
+    }
+
+    /**
+     * Region statistics are published as the "cache.*" metrics, tagged with the region name.
+     */
+    @Test
+    @Order(5)
+    void givenCachedCustomer_whenFindById_thenRegionMetricsArePublished() throws ValidationException {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        customerRepository.findById(newCustomer.id());
+
+        var hits = meterRegistry.get("cache.gets").tag("cache", Customer.CACHE_REGION).tag("result", "hit").functionCounter();
+        var puts = meterRegistry.get("cache.puts").tag("cache", Customer.CACHE_REGION).functionCounter();
+
+        assertThat(hits.count()).isPositive();
+        assertThat(puts.count()).isPositive();
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", Customer.CACHE_REGION).meters()).isNotEmpty();
+    }
+
+    /**
+     * Scans of the whole table must not put every customer into the region, which would evict the customers read by ID.
+     */
+    @Test
+    @Order(6)
+    void givenCustomers_whenExportAllAndFindPage_thenNothingIsPutIntoRegion() throws ValidationException {
+        for (int i = 0; i < 3; i++) {
+            customerService.create(TestHelpers.getValidCustomerData());
+        }
+
+        var statistics = getStatistics();
+        var exportedCount = new AtomicInteger();
+
+        entityManagerFactory.getCache().evict(Customer.class);
+        statistics.clear();
+
+        customerService.exportAll(customer -> exportedCount.incrementAndGet());
+        customerService.findPage(null, 10);
+
+        assertThat(exportedCount.get()).isGreaterThanOrEqualTo(3);
+        assertThat(statistics.getCacheRegionStatistics(Customer.CACHE_REGION).getPutCount()).isZero();
+    }
+
+    private Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,91 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.h2.engine.SessionLocal;
+import org.h2.jdbc.JdbcConnection;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Test cases for {@link ICustomerService#exportAll(Consumer)}.
+ */
+@SpringBootTest
+public class ExportCustomersServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @Order(1)
+    void givenCustomers_whenExportAll_thenEveryCustomerIsPassedToConsumerInIdOrder() throws ValidationException {
+        var createdCustomers = new ArrayList<CustomerDto>();
+
+        for (int i = 0; i < 3; i++) {
+            createdCustomers.add(customerService.create(TestHelpers.getValidCustomerData()));
+        }
+
+        var exportedCustomers = new ArrayList<CustomerDto>();
+
+        customerService.exportAll(exportedCustomers::add);
+
+        assertThat(exportedCustomers.stream().map(CustomerDto::id).toList()).isSorted().doesNotHaveDuplicates();
+        assertThat(exportedCustomers).containsAll(createdCustomers);
+    }
+
+    /**
+     * Without lazy query execution H2 reads the whole table into a temporary result before the first customer is passed on.
+     */
+    @Test
+    @Order(2)
+    void givenCustomers_whenExportAll_thenRowsAreReadLazilyAndSettingIsRestored() throws ValidationException {
+        customerService.create(TestHelpers.getValidCustomerData());
+
+        var lazyDuringExport = new ArrayList<Boolean>();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            customerService.exportAll(customer -> lazyDuringExport.add(getH2Session().isLazyQueryExecution()));
+
+            assertThat(getH2Session().isLazyQueryExecution()).isFalse();
+        });
+
+        assertThat(lazyDuringExport).isNotEmpty().containsOnly(true);
+    }
+
+    @Test
+    @Order(3)
+    void givenNullConsumer_whenExportAll_thenIllegalArgumentExceptionIsThrown() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> customerService.exportAll(null));
+    }
+
+    /*
+     * The connection of the current transaction.
+     */
+    private SessionLocal getH2Session() {
+        try {
+            return (SessionLocal) DataSourceUtils.getConnection(dataSource).unwrap(JdbcConnection.class).getSession();
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link ICustomerService#findPage(String, Integer)}.
+ */
+@SpringBootTest
+public class FindCustomerPageServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    /**
+     * Other tests share the same database, so the whole table is paged through and only the created customers are checked.
+     */
+    @Test
+    @Order(1)
+    void givenCustomers_whenPagingThroughAllPages_thenEveryCustomerIsReturnedOnceInIdOrder() throws ValidationException {
+        var createdIds = new ArrayList<Long>();
+
+        for (int i = 0; i < 5; i++) {
+            createdIds.add(customerService.create(TestHelpers.getValidCustomerData()).id());
+        }
+
+        var pagedCustomers = new ArrayList<CustomerDto>();
+        String cursor = null;
+
+        do {
+            var page = customerService.findPage(cursor, 2);
+
+            assertThat(page.customers()).hasSizeLessThanOrEqualTo(2);
+
+            pagedCustomers.addAll(page.customers());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        var pagedIds = pagedCustomers.stream().map(CustomerDto::id).toList();
+
+        assertThat(pagedIds).isSorted().doesNotHaveDuplicates().containsAll(createdIds);
+    }
+
+    @Test
+    @Order(2)
+    void givenNoLimit_whenFindPage_thenDefaultPageSizeIsUsed() throws ValidationException {
+        var page = customerService.findPage(null, null);
+
+        assertThat(page.customers()).hasSizeLessThanOrEqualTo(20);
+    }
+
+    @Test
+    @Order(3)
+    void givenMalformedCursor_whenFindPage_thenValidationExceptionIsThrown() {
+        var validationException = assertThrows(
+                ValidationException.class,
+                () -> customerService.findPage("not a cursor", 10));
+
+        TestHelpers.hasValidationError(validationException.getErrors(), "cursor", "not a cursor", "Cursor is invalid.");
+    }
+
+    @Test
+    @Order(4)
+    void givenLimitOutOfRange_whenFindPage_thenValidationExceptionIsThrown() {
+        for (int limit : new int[]{0, 101}) {
+            var validationException = assertThrows(
+                    ValidationException.class,
+                    () -> customerService.findPage(null, limit));
+
+            TestHelpers.hasValidationError(validationException.getErrors(), "limit", String.valueOf(limit), "Limit must be between 1 and 100.");
+        }
+    }
+}
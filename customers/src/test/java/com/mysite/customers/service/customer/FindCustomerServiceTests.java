@@ -47,4 +47,26 @@ public class FindCustomerServiceTests {
                .isThrownBy(() -> customerService.findById(unknownCustomerId))
                .withMessage(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId));
     }
+
+    @Test
+    @Order(3)
+    void givenExistingCustomerId_whenGetVersion_thenVersionAndModificationTimeAreReturned() throws ValidationException, NotFoundException {
+        var timeBeforeCreate = System.currentTimeMillis();
+
+        var createdCustomer = customerService.create(TestHelpers.getValidCustomerData());
+        var customerVersion = customerService.getVersion(createdCustomer.id());
+
+        assertThat(customerVersion.version()).isZero();
+        assertThat(customerVersion.modifiedTime()).isGreaterThanOrEqualTo(timeBeforeCreate);
+    }
+
+    @Test
+    @Order(4)
+    void givenUnknownCustomerId_whenGetVersion_thenNotFoundExceptionIsThrown() {
+        var unknownCustomerId = -1L;
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.getVersion(unknownCustomerId))
+                .withMessage(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId));
+    }
 }
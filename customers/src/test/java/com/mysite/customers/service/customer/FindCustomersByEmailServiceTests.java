@@ -0,0 +1,58 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Test cases for {@link ICustomerService#findByEmail(String)}.
+ */
+@SpringBootTest
+public class FindCustomersByEmailServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenCustomersWithSameEmail_whenFindByEmail_thenAllOfThemAreReturnedInIdOrder() throws ValidationException {
+        var email = "findbyemail@example.com";
+
+        var firstCustomer = customerService.create(new CustomerDataDto("John", "Doe", email));
+        var secondCustomer = customerService.create(new CustomerDataDto("Jane", "Doe", email));
+        customerService.create(new CustomerDataDto("John", "Doe", "other@example.com"));
+
+        var foundCustomers = customerService.findByEmail(email);
+
+        assertThat(foundCustomers.stream().map(CustomerDto::id).toList()).containsExactly(firstCustomer.id(), secondCustomer.id());
+    }
+
+    @Test
+    @Order(2)
+    void givenEmailInDifferentCase_whenFindByEmail_thenCustomerIsFound() throws ValidationException {
+        var customer = customerService.create(new CustomerDataDto("John", "Doe", "casedemail@example.com"));
+
+        assertThat(customerService.findByEmail(" CasedEmail@Example.COM ")).containsExactly(customer);
+    }
+
+    @Test
+    @Order(3)
+    void givenUnknownEmail_whenFindByEmail_thenEmptyListIsReturned() {
+        assertThat(customerService.findByEmail("unknown@example.com")).isEmpty();
+    }
+
+    @Test
+    @Order(4)
+    void givenNullEmail_whenFindByEmail_thenIllegalArgumentExceptionIsThrown() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> customerService.findByEmail(null));
+    }
+}
@@ -0,0 +1,167 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.config.CacheConfiguration;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.repository.ICustomerRepository;
+import com.mysite.customers.service.ICustomerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Test cases for {@link ICustomerService#findByIds(List)}.
+ */
+@SpringBootTest(properties = { "customers.bulk.max-ids=10", "customers.bulk.query-chunk-size=2" })
+public class FindCustomersByIdsServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @SpyBean
+    private ICustomerRepository customerRepository;
+
+    /**
+     * Results follow the requested order (not the ID order), unknown and duplicate IDs are reported once as missing.
+     */
+    @Test
+    @Order(1)
+    void givenExistingAndUnknownIds_whenFindByIds_thenCustomersAreReturnedInRequestedOrder() throws ValidationException {
+        var customers = createCustomers(3);
+
+        var result = customerService.findByIds(List.of(customers.get(2).id(), -1L, customers.get(0).id(), customers.get(2).id(), customers.get(1).id()));
+
+        assertThat(result.customers()).containsExactly(customers.get(2), customers.get(0), customers.get(1));
+        assertThat(result.missingIds()).containsExactly(-1L);
+    }
+
+    /**
+     * With a chunk size of 2, five uncached IDs are loaded with three queries.
+     */
+    @Test
+    @Order(2)
+    void givenUncachedIds_whenFindByIds_thenIdsAreQueriedInChunks() throws ValidationException {
+        var ids = createCustomers(5).stream().map(CustomerDto::id).toList();
+        var statistics = getStatistics();
+
+        cacheManager.getCache(CacheConfiguration.CUSTOMERS_CACHE).clear();
+        statistics.clear();
+
+        assertThat(customerService.findByIds(ids).customers()).hasSize(5);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    /**
+     * Customers cached by findById are served from the cache, so the lookup does not query the database.
+     */
+    @Test
+    @Order(3)
+    void givenCachedCustomers_whenFindByIds_thenCustomersAreServedFromCache() throws ValidationException, NotFoundException {
+        var customers = createCustomers(3);
+        var ids = customers.stream().map(CustomerDto::id).toList();
+        var statistics = getStatistics();
+
+        cacheManager.getCache(CacheConfiguration.CUSTOMERS_CACHE).clear();
+
+        for (var id : ids) {
+            customerService.findById(id);
+        }
+
+        statistics.clear();
+
+        assertThat(customerService.findByIds(ids).customers()).isEqualTo(customers);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    /**
+     * An update committed (and evicted from the cache) after the lookup read the customer
+     * does not leave the customer's previous version in the cache.
+     */
+    @Test
+    @Order(4)
+    void givenUpdateAfterRead_whenFindByIds_thenPreviousVersionIsNotCached() throws Exception {
+        var customer = createCustomers(1).getFirst();
+        var updatedData = new CustomerDataDto("Jane", "Doe", "janedoe@example.com");
+
+        cacheManager.getCache(CacheConfiguration.CUSTOMERS_CACHE).clear();
+
+        /* The repository is a JDK proxy, so the spy reads the customer with the (not stubbed) findById. */
+        doAnswer(invocation -> {
+            var foundCustomers = List.of(customerRepository.findById(customer.id()).orElseThrow());
+
+            CompletableFuture.runAsync(() -> {
+                try {
+                    customerService.update(customer.id(), updatedData, null);
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }).get(10, TimeUnit.SECONDS);
+
+            return foundCustomers;
+        }).when(customerRepository).findAllById(List.of(customer.id()));
+
+        assertThat(customerService.findByIds(List.of(customer.id())).customers()).containsExactly(customer);
+
+        assertThat(customerService.findById(customer.id()))
+                .usingRecursiveComparison()
+                .ignoringFields("modifiedTime")
+                .isEqualTo(new CustomerDto(customer.id(), "Jane", "Doe", "janedoe@example.com", customer.version() + 1, 0));
+    }
+
+    @Test
+    @Order(5)
+    void givenTooManyDistinctIds_whenFindByIds_thenValidationExceptionIsThrown() {
+        assertThatExceptionOfType(ValidationException.class)
+                .isThrownBy(() -> customerService.findByIds(LongStream.rangeClosed(-11, -1).boxed().toList()))
+                .satisfies(ex -> TestHelpers.hasValidationError(ex.getErrors(), "ids", "11", "Number of IDs must be between 1 and 10."));
+    }
+
+    @Test
+    @Order(6)
+    void givenNullIds_whenFindByIds_thenIllegalArgumentExceptionIsThrown() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> customerService.findByIds(null));
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> customerService.findByIds(Arrays.asList(1L, null)));
+    }
+
+    private List<CustomerDto> createCustomers(int count) throws ValidationException {
+        var customers = new ArrayList<CustomerDto>(count);
+
+        for (int i = 0; i < count; i++) {
+            customers.add(customerService.create(TestHelpers.getValidCustomerData()));
+        }
+
+        return customers;
+    }
+
+    private Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
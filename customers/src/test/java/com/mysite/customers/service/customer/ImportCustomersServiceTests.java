@@ -0,0 +1,132 @@
+package com.mysite.customers.service.customer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.customers.ExpectedErrorMessages;
+import com.mysite.customers.ExpectedPropertyNames;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.domain.Customer;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.reader.CsvCustomerDataReader;
+import com.mysite.customers.dto.reader.NdjsonCustomerDataReader;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.repository.ICustomerRepository;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * Test cases for {@link ICustomerService#importCustomers(Iterator)}.
+ * Chunk size is set to 2 rows so that a few rows span multiple chunks.
+ */
+@SpringBootTest(properties = "customers.import.chunk-size=2")
+public class ImportCustomersServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private ICustomerRepository customerRepository;
+
+    @Test
+    @Order(1)
+    void givenNdjsonRows_whenImportCustomers_thenValidRowsAreAcceptedAndInvalidRowsAreReported() throws Exception {
+        var validCustomerJson = TestHelpers.toJsonStr(TestHelpers.getValidCustomerData());
+
+        var ndjson = validCustomerJson + "\n"
+                + "\n"
+                + "{not json\n"
+                + "{\"firstName\":\"John\",\"lastName\":\"\",\"email\":\"johndoe@example.com\"}\n"
+                + validCustomerJson + "\n"
+                + validCustomerJson;
+
+        var countBefore = customerRepository.count();
+
+        var result = customerService.importCustomers(new NdjsonCustomerDataReader(toInputStream(ndjson), objectMapper));
+
+        assertThat(result.acceptedCount()).isEqualTo(3);
+        assertThat(result.rejectedCount()).isEqualTo(2);
+        assertThat(customerRepository.count()).isEqualTo(countBefore + 3);
+
+        assertThat(result.rejectedRows()).hasSize(2);
+        assertThat(result.rejectedRows().get(0).lineNumber()).isEqualTo(3);
+        assertThat(result.rejectedRows().get(1).lineNumber()).isEqualTo(4);
+        TestHelpers.hasValidationError(result.rejectedRows().get(1).errors(), ExpectedPropertyNames.LAST_NAME, "", ExpectedErrorMessages.LastName.SIZE);
+    }
+
+    @Test
+    @Order(2)
+    void givenCsvRows_whenImportCustomers_thenValidRowsAreAcceptedAndInvalidRowsAreReported() throws Exception {
+        var csv = "email,firstName,lastName\r\n"
+                + "johndoe@example.com,John,Doe\r\n"
+                + "\"janedoe@example.com\",\"Jane\",\"Doe\"\r\n"
+                + "johndoe@example,John,Doe\r\n"
+                + "johndoe@example.com,\"John\r\n";
+
+        var result = customerService.importCustomers(new CsvCustomerDataReader(toInputStream(csv)));
+
+        assertThat(result.acceptedCount()).isEqualTo(2);
+        assertThat(result.rejectedCount()).isEqualTo(2);
+        assertThat(result.rejectedRows().get(0).lineNumber()).isEqualTo(4);
+        TestHelpers.hasValidationError(result.rejectedRows().get(0).errors(), ExpectedPropertyNames.EMAIL, "johndoe@example", ExpectedErrorMessages.Email.FORMAT);
+        assertThat(result.rejectedRows().get(1).lineNumber()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(3)
+    void givenCsvWithoutRequiredColumns_whenCreatingReader_thenValidationExceptionIsThrown() {
+        var validationException = assertThrows(
+                ValidationException.class,
+                () -> new CsvCustomerDataReader(toInputStream("firstName,lastName\nJohn,Doe\n")));
+
+        assertThat(validationException.getErrors()).hasSize(1);
+    }
+
+    /**
+     * The second chunk (customers named "Failing") fails to save, the first and the third chunk must still be committed.
+     */
+    @Test
+    @Order(4)
+    @SuppressWarnings("unchecked")
+    void givenFailingChunk_whenImportCustomers_thenOtherChunksAreCommitted() throws Exception {
+        var validCustomerJson = TestHelpers.toJsonStr(TestHelpers.getValidCustomerData());
+        var failingCustomerJson = TestHelpers.toJsonStr(new CustomerDataDto("Failing", "Doe", "johndoe@example.com"));
+        var ndjson = (validCustomerJson + "\n").repeat(2) + (failingCustomerJson + "\n").repeat(2) + (validCustomerJson + "\n").repeat(2);
+
+        doThrow(new DataIntegrityViolationException("Simulated failure"))
+                .when(customerRepository).saveAll(argThat((Iterable<Customer> chunk) -> chunk.iterator().next().getFirstName().equals("Failing")));
+
+        try {
+            var countBefore = customerRepository.count();
+
+            var result = customerService.importCustomers(new NdjsonCustomerDataReader(toInputStream(ndjson), objectMapper));
+
+            assertThat(result.acceptedCount()).isEqualTo(4);
+            assertThat(result.rejectedCount()).isEqualTo(2);
+            assertThat(result.rejectedRows().stream().map(row -> row.lineNumber()).toList()).containsExactly(3L, 4L);
+            assertThat(customerRepository.count()).isEqualTo(countBefore + 4);
+        } finally {
+            reset(customerRepository);
+        }
+    }
+
+    private static ByteArrayInputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
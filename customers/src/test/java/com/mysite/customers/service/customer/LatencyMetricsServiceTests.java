@@ -0,0 +1,70 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.middleware.LatencyMetricsAspect;
+import com.mysite.customers.service.ICustomerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Test cases for the {@link ICustomerService} latency timers recorded by {@link LatencyMetricsAspect}.
+ */
+@SpringBootTest
+public class LatencyMetricsServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @Order(1)
+    void givenValidCustomerData_whenCreate_thenOkOutcomeIsTimed() throws ValidationException {
+        var countBefore = getServiceTimerCount("create", LatencyMetricsAspect.OUTCOME_OK);
+
+        customerService.create(TestHelpers.getValidCustomerData());
+
+        assertThat(getServiceTimerCount("create", LatencyMetricsAspect.OUTCOME_OK)).isEqualTo(countBefore + 1);
+    }
+
+    @Test
+    @Order(2)
+    void givenInvalidCustomerData_whenCreate_thenValidationErrorOutcomeIsTimed() {
+        var countBefore = getServiceTimerCount("create", LatencyMetricsAspect.OUTCOME_VALIDATION_ERROR);
+
+        assertThatExceptionOfType(ValidationException.class)
+                .isThrownBy(() -> customerService.create(new CustomerDataDto(null, null, null)));
+
+        assertThat(getServiceTimerCount("create", LatencyMetricsAspect.OUTCOME_VALIDATION_ERROR)).isEqualTo(countBefore + 1);
+    }
+
+    @Test
+    @Order(3)
+    void givenUnknownCustomerId_whenFindById_thenNotFoundOutcomeIsTimed() {
+        var countBefore = getServiceTimerCount("findById", LatencyMetricsAspect.OUTCOME_NOT_FOUND);
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.findById(-1L));
+
+        assertThat(getServiceTimerCount("findById", LatencyMetricsAspect.OUTCOME_NOT_FOUND)).isEqualTo(countBefore + 1);
+    }
+
+    private long getServiceTimerCount(String operation, String outcome) {
+        var timer = meterRegistry.find(LatencyMetricsAspect.SERVICE_TIMER)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer();
+
+        return timer == null ? 0 : timer.count();
+    }
+}
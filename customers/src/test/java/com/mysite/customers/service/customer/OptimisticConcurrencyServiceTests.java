@@ -0,0 +1,180 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test cases for the expected version (optimistic concurrency) handling of
+ * {@link ICustomerService#update(long, CustomerDataDto, Long)}, {@link ICustomerService#patch(long, CustomerPatchDto, Long)}
+ * and {@link ICustomerService#deleteById(long, Long)}.
+ */
+@SpringBootTest
+public class OptimisticConcurrencyServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Test
+    @Order(1)
+    void givenCurrentVersion_whenUpdateAndPatch_thenVersionIsIncrementedByEach() throws Exception {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+
+        assertThat(customer.version()).isZero();
+
+        var updatedCustomer = customerService.update(customer.id(), new CustomerDataDto("Jane", "Doe", "janedoe@example.com"), 0L);
+
+        assertThat(updatedCustomer.version()).isEqualTo(1);
+
+        var patchedCustomer = customerService.patch(customer.id(), new CustomerPatchDto(null, "Roe", null), 1L);
+
+        assertThat(patchedCustomer.version()).isEqualTo(2);
+        assertThat(customerService.getVersion(customer.id()).version()).isEqualTo(2);
+        assertThat(customerService.findById(customer.id()).version()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    void givenOutdatedVersion_whenUpdatePatchOrDelete_thenPreconditionFailedExceptionIsThrownAndCustomerIsUnchanged() throws Exception {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+
+        customerService.patch(customer.id(), new CustomerPatchDto("Jane", null, null), null);
+
+        assertThatExceptionOfType(PreconditionFailedException.class)
+                .isThrownBy(() -> customerService.update(customer.id(), new CustomerDataDto("Joan", "Doe", "joan@example.com"), 0L));
+
+        assertThatExceptionOfType(PreconditionFailedException.class)
+                .isThrownBy(() -> customerService.patch(customer.id(), new CustomerPatchDto("Joan", null, null), 0L));
+
+        assertThatExceptionOfType(PreconditionFailedException.class)
+                .isThrownBy(() -> customerService.patch(customer.id(), new CustomerPatchDto(null, null, null), 0L));
+
+        assertThatExceptionOfType(PreconditionFailedException.class)
+                .isThrownBy(() -> customerService.deleteById(customer.id(), 0L));
+
+        var currentCustomer = customerService.findById(customer.id());
+
+        assertThat(currentCustomer.firstName()).isEqualTo("Jane");
+        assertThat(currentCustomer.version()).isEqualTo(1);
+
+        customerService.deleteById(customer.id(), 1L);
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.findById(customer.id()));
+    }
+
+    @Test
+    @Order(3)
+    void givenUnknownCustomerId_whenConditionalPatchOrDelete_thenNotFoundExceptionIsThrown() {
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.patch(-1L, new CustomerPatchDto("Jane", null, null), 0L));
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.deleteById(-1L, 0L));
+    }
+
+    /**
+     * Many threads read-modify-write a few customers, each write conditional on the version it has read (like If-Match).
+     * Every write either succeeds or fails with a failed precondition, no update is lost:
+     * the final version of every customer equals the number of successful writes to it.
+     * Every write uses unique values, because a write that changes nothing does not create a new version.
+     */
+    @Test
+    @Order(4)
+    void givenManyConcurrentWriters_whenConditionalUpdatesOfFewCustomers_thenNoUpdateIsLost() throws Exception {
+        final int customerCount = 3;
+        final int threadCount = 12;
+        final int writesPerThread = 20;
+
+        var customers = new ArrayList<CustomerDto>(customerCount);
+
+        for (int i = 0; i < customerCount; i++) {
+            customers.add(customerService.create(TestHelpers.getValidCustomerData()));
+        }
+
+        var successfulWrites = new AtomicIntegerArray(customerCount);
+        var failedPreconditions = new AtomicInteger();
+        var writeCounter = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(threadCount)) {
+            var futures = new ArrayList<Future<?>>(threadCount);
+
+            for (int t = 0; t < threadCount; t++) {
+                final int thread = t;
+
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    for (int i = 0; i < writesPerThread; i++) {
+                        var index = (thread + i) % customerCount;
+                        var id = customers.get(index).id();
+                        var version = customerService.getVersion(id).version();
+                        var uniqueName = toLetters(writeCounter.incrementAndGet());
+
+                        try {
+                            if (i % 2 == 0) {
+                                customerService.update(id, new CustomerDataDto("John", "Doe", uniqueName + "@example.com"), version);
+                            } else {
+                                customerService.patch(id, new CustomerPatchDto(null, null, uniqueName + "@example.com"), version);
+                            }
+
+                            successfulWrites.incrementAndGet(index);
+                        } catch (PreconditionFailedException ex) {
+                            failedPreconditions.incrementAndGet();
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (var future : futures) {
+                future.get();
+            }
+        }
+
+        var totalSuccessfulWrites = 0;
+
+        for (int i = 0; i < customerCount; i++) {
+            assertThat(customerService.getVersion(customers.get(i).id()).version()).isEqualTo(successfulWrites.get(i));
+
+            totalSuccessfulWrites += successfulWrites.get(i);
+        }
+
+        assertThat(totalSuccessfulWrites + failedPreconditions.get()).isEqualTo(threadCount * writesPerThread);
+        assertThat(totalSuccessfulWrites).isPositive();
+    }
+
+    private static String toLetters(int number) {
+        var letters = new StringBuilder();
+
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+
+        return letters.toString();
+    }
+}
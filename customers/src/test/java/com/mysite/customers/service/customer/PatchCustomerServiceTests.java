@@ -0,0 +1,130 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.ExpectedErrorMessages;
+import com.mysite.customers.ExpectedPropertyNames;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerPatchDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.repository.ICustomerRepository;
+import com.mysite.customers.service.ICustomerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link ICustomerService#patch(long, CustomerPatchDto, Long)}.
+ */
+@SpringBootTest
+public class PatchCustomerServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Autowired
+    private ICustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Only e-mail is given, names must stay the same and the modification time must change.
+     */
+    @Test
+    @Order(1)
+    void givenOnlyEmail_whenPatch_thenOnlyEmailAndModificationTimeAreUpdated() throws ValidationException, NotFoundException, PreconditionFailedException, InterruptedException {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+        var createdTime = customerService.getVersion(newCustomer.id()).modifiedTime();
+
+        Thread.sleep(5);
+
+        var patchedCustomer = customerService.patch(newCustomer.id(), new CustomerPatchDto(null, null, "new" + newCustomer.email()), null);
+
+        assertThat(patchedCustomer.id()).isEqualTo(newCustomer.id());
+        assertThat(patchedCustomer.firstName()).isEqualTo(newCustomer.firstName());
+        assertThat(patchedCustomer.lastName()).isEqualTo(newCustomer.lastName());
+        assertThat(patchedCustomer.email()).isEqualTo("new" + newCustomer.email());
+
+        assertThat(customerService.findById(newCustomer.id())).isEqualTo(patchedCustomer);
+        assertThat(customerService.getVersion(newCustomer.id()).modifiedTime()).isGreaterThan(createdTime);
+    }
+
+    @Test
+    @Order(2)
+    void givenEmptyPatch_whenPatch_thenCustomerIsReturnedUnchanged() throws ValidationException, NotFoundException, PreconditionFailedException {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+        assertThat(customerService.patch(newCustomer.id(), new CustomerPatchDto(null, null, null), null)).isEqualTo(newCustomer);
+    }
+
+    /**
+     * Also validates the error message.
+     */
+    @Test
+    @Order(3)
+    void givenUnknownCustomerId_whenPatch_thenNotFoundExceptionIsThrown() {
+        var unknownCustomerId = -1L;
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> customerService.patch(unknownCustomerId, new CustomerPatchDto("Jane", null, null), null))
+                .withMessage(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId));
+    }
+
+    /**
+     * Only the supplied (invalid) properties are reported, the missing ones are not required.
+     */
+    @Test
+    @Order(4)
+    void givenInvalidSuppliedValues_whenPatch_thenValidationExceptionIsThrownForThoseOnly() throws ValidationException {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+        var customerPatch = new CustomerPatchDto("", null, "johndoeexample.com");
+
+        var validationException = assertThrows(
+                ValidationException.class,
+                () -> customerService.patch(newCustomer.id(), customerPatch, null));
+
+        var validationErrors = validationException.getErrors();
+
+        assertThat(validationErrors).hasSize(2);
+
+        TestHelpers.hasValidationError(validationErrors, ExpectedPropertyNames.FIRST_NAME, customerPatch.firstName(), ExpectedErrorMessages.FirstName.SIZE);
+        TestHelpers.hasValidationError(validationErrors, ExpectedPropertyNames.EMAIL, customerPatch.email(), ExpectedErrorMessages.Email.FORMAT);
+
+        assertThat(customerRepository.findById(newCustomer.id()).orElseThrow().getFirstName()).isEqualTo(newCustomer.firstName());
+    }
+
+    /**
+     * A patch is one UPDATE statement that also returns the row, while a full update is a SELECT followed by an UPDATE.
+     */
+    @Test
+    @Order(5)
+    void givenExistingCustomer_whenPatch_thenSingleStatementIsExecuted() throws ValidationException, NotFoundException, PreconditionFailedException {
+        var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        customerService.patch(newCustomer.id(), new CustomerPatchDto("Jane", null, null), null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        customerService.update(newCustomer.id(), new CustomerDataDto("Janet", newCustomer.lastName(), newCustomer.email()), null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(6)
+    void givenNullCustomerPatch_whenPatch_thenIllegalArgumentExceptionIsThrown() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> customerService.patch(1L, null, null));
+    }
+}
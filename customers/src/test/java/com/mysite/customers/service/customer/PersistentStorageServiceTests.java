@@ -0,0 +1,179 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.CustomersApplication;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.config.MigrationConfiguration;
+import com.mysite.customers.config.PersistentStorageConfiguration;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.repository.storage.ChangelogFingerprintRepository;
+import com.mysite.customers.repository.storage.H2StorageMaintenance;
+import com.mysite.customers.service.ICustomerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test cases for the file-backed H2 database ("persistent" profile).
+ * Every test starts its own application context on its own database file, restarts are real restarts.
+ */
+public class PersistentStorageServiceTests {
+
+    @TempDir
+    private Path storageDirectory;
+
+    @Test
+    @Order(1)
+    void givenCreatedCustomer_whenApplicationIsRestarted_thenCustomerIsFound() throws Exception {
+        var path = storageDirectory.resolve("customersdb");
+        long customerId;
+
+        try (var context = startApplication(path)) {
+            customerId = context.getBean(ICustomerService.class).create(TestHelpers.getValidCustomerData()).id();
+        }
+
+        assertThat(Files.exists(Path.of(path + ".mv.db"))).isTrue();
+
+        try (var context = startApplication(path)) {
+            var customerService = context.getBean(ICustomerService.class);
+
+            assertThat(customerService.findById(customerId).email()).isEqualTo(TestHelpers.getValidCustomerData().email());
+            assertThat(customerService.suggest(TestHelpers.getValidCustomerData().firstName(), 10))
+                    .anyMatch(suggestion -> suggestion.id() == customerId);
+        }
+    }
+
+    /**
+     * Rewritten rows leave partially live chunks behind, the scheduled compaction must run on the live database.
+     */
+    @Test
+    @Order(2)
+    void givenUpdatedCustomers_whenCompact_thenStorageMetricsArePublished() throws Exception {
+        try (var context = startApplication(storageDirectory.resolve("customersdb"))) {
+            var customerService = context.getBean(ICustomerService.class);
+            var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
+
+            for (int i = 0; i < 100; i++) {
+                customerService.update(newCustomer.id(), new CustomerDataDto("John", "Doe", i % 2 == 0 ? "janedoe@example.com" : "johndoe@example.com"), null);
+            }
+
+            context.getBean(H2StorageMaintenance.class).compact();
+
+            var meterRegistry = context.getBean(MeterRegistry.class);
+
+            assertThat(meterRegistry.get("customers.storage.file.size").gauge().value()).isPositive();
+            assertThat(meterRegistry.get("customers.storage.fill.rate").gauge().value()).isBetween(0d, 100d);
+            assertThat(meterRegistry.get("customers.storage.cache.used").gauge().value()).isNotNaN();
+        }
+    }
+
+    /**
+     * The gauges read the last sample, a scrape must not take connections from the pool.
+     */
+    @Test
+    @Order(3)
+    void givenSampledStorageMetrics_whenGaugesAreRead_thenNoConnectionIsAcquired() throws Exception {
+        try (var context = startApplication(storageDirectory.resolve("customersdb"))) {
+            context.getBean(H2StorageMaintenance.class).sampleMetrics();
+
+            var meterRegistry = context.getBean(MeterRegistry.class);
+            var acquisitions = meterRegistry.get("hikaricp.connections.acquire").timer();
+            var acquisitionsBefore = acquisitions.count();
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(meterRegistry.get("customers.storage.file.size").gauge().value()).isPositive();
+                assertThat(meterRegistry.get("customers.storage.fill.rate").gauge().value()).isBetween(0d, 100d);
+                assertThat(meterRegistry.get("customers.storage.cache.used").gauge().value()).isNotNaN();
+            }
+
+            assertThat(acquisitions.count()).isEqualTo(acquisitionsBefore);
+        }
+    }
+
+    /**
+     * Liquibase cannot re-create the existing schema without its history, so the restart only succeeds when it is skipped.
+     */
+    @Test
+    @Order(4)
+    void givenMigratedDatabase_whenRestartedWithUnchangedChangelog_thenLiquibaseIsSkipped() throws Exception {
+        var path = storageDirectory.resolve("customersdb");
+        long customerId;
+
+        try (var context = startApplication(path)) {
+            customerId = context.getBean(ICustomerService.class).create(TestHelpers.getValidCustomerData()).id();
+
+            assertThat(findRecordedFingerprint(context)).hasValue(getPackagedFingerprint());
+
+            context.getBean(JdbcTemplate.class).update("DELETE FROM DATABASECHANGELOG");
+        }
+
+        try (var context = startApplication(path)) {
+            assertThat(context.getBean(ICustomerService.class).findById(customerId).email()).isEqualTo(TestHelpers.getValidCustomerData().email());
+            assertThat(context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM DATABASECHANGELOG", Integer.class)).isZero();
+        }
+    }
+
+    @Test
+    @Order(5)
+    void givenOutdatedFingerprint_whenRestarted_thenLiquibaseRunsAndRecordsFingerprint() throws Exception {
+        var path = storageDirectory.resolve("customersdb");
+        int changeSetCount;
+
+        try (var context = startApplication(path)) {
+            var jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            changeSetCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM DATABASECHANGELOG", Integer.class);
+            new ChangelogFingerprintRepository(context.getBean(DataSource.class)).record("outdated");
+        }
+
+        try (var context = startApplication(path)) {
+            assertThat(findRecordedFingerprint(context)).hasValue(getPackagedFingerprint());
+            assertThat(context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM DATABASECHANGELOG", Integer.class))
+                    .isEqualTo(changeSetCount);
+        }
+    }
+
+    @Test
+    @Order(6)
+    void givenNewDatabase_whenMigrateCommand_thenFingerprintIsRecorded() throws Exception {
+        var path = storageDirectory.resolve("customersdb");
+
+        CustomersApplication.main(new String[] {
+                MigrationConfiguration.MIGRATE_COMMAND,
+                "--spring.profiles.active=" + PersistentStorageConfiguration.PROFILE,
+                "--customers.storage.path=" + path });
+
+        try (var context = startApplication(path)) {
+            assertThat(findRecordedFingerprint(context)).hasValue(getPackagedFingerprint());
+        }
+    }
+
+    private static Optional<String> findRecordedFingerprint(ConfigurableApplicationContext context) {
+        return new ChangelogFingerprintRepository(context.getBean(DataSource.class)).find();
+    }
+
+    private static String getPackagedFingerprint() throws IOException {
+        return new ClassPathResource("db/changelog.sha256").getContentAsString(StandardCharsets.US_ASCII).strip();
+    }
+
+    private static ConfigurableApplicationContext startApplication(Path path) {
+        return new SpringApplicationBuilder(CustomersApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(PersistentStorageConfiguration.PROFILE)
+                .run("--customers.storage.path=" + path, "--customers.storage.write-delay-ms=0");
+    }
+}
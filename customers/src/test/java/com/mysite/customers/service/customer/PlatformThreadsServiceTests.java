@@ -0,0 +1,46 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.ServiceThreadRecorder;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test cases for the default request execution mode ("spring.threads.virtual.enabled=false").
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(ServiceThreadRecorder.class)
+public class PlatformThreadsServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+
+    @Autowired
+    private ServiceThreadRecorder serviceThreadRecorder;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @Order(1)
+    void givenDefaultMode_whenGetCustomerRequest_thenServiceIsCalledOnPlatformThread() throws ValidationException {
+        var customer = customerService.create(TestHelpers.getValidCustomerData());
+
+        serviceThreadRecorder.getThreads().clear();
+
+        var response = restTemplate.getForEntity("/v1/customers/{id}", CustomerDto.class, customer.id());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(serviceThreadRecorder.getThreads()).isNotEmpty().noneMatch(Thread::isVirtual);
+    }
+}
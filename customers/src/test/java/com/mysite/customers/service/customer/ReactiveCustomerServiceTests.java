@@ -0,0 +1,127 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.ExpectedErrorMessages;
+import com.mysite.customers.ExpectedPropertyNames;
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.config.ReactiveConfiguration;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.IReactiveCustomerService;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Test cases for {@link IReactiveCustomerService} ("reactive" profile).
+ */
+@SpringBootTest
+@ActiveProfiles(ReactiveConfiguration.PROFILE)
+public class ReactiveCustomerServiceTests {
+
+    @Autowired
+    private IReactiveCustomerService reactiveCustomerService;
+
+    @Test
+    @Order(1)
+    void givenValidCustomerData_whenCreateAndFindById_thenCreatedCustomerIsFound() {
+        var newCustomerData = TestHelpers.getValidCustomerData();
+
+        var newCustomer = reactiveCustomerService.create(newCustomerData).block();
+
+        assertThat(newCustomer).isNotNull();
+        assertThat(newCustomer.id()).isNotNull();
+        assertThat(newCustomer.firstName()).isEqualTo(newCustomerData.firstName());
+        assertThat(newCustomer.lastName()).isEqualTo(newCustomerData.lastName());
+        assertThat(newCustomer.email()).isEqualTo(newCustomerData.email());
+
+        assertThat(reactiveCustomerService.findById(newCustomer.id()).block()).isEqualTo(newCustomer);
+    }
+
+    @Test
+    @Order(2)
+    void givenInvalidCustomerData_whenCreate_thenValidationExceptionIsSignalled() {
+        assertThatExceptionOfType(ValidationException.class)
+                .isThrownBy(() -> blockChecked(reactiveCustomerService.create(new CustomerDataDto("John", "Doe", "johndoe@example"))))
+                .satisfies(ex -> TestHelpers.hasValidationError(ex.getErrors(), ExpectedPropertyNames.EMAIL, "johndoe@example", ExpectedErrorMessages.Email.FORMAT));
+    }
+
+    @Test
+    @Order(3)
+    void givenNewValidCustomerData_whenUpdate_thenCustomerDataIsUpdated() {
+        var newCustomer = reactiveCustomerService.create(TestHelpers.getValidCustomerData()).block();
+
+        assertThat(newCustomer).isNotNull();
+
+        var updatedCustomer = reactiveCustomerService.update(newCustomer.id(), new CustomerDataDto("Jane", newCustomer.lastName(), "janedoe@example.com")).block();
+
+        assertThat(updatedCustomer).isNotNull();
+        assertThat(updatedCustomer.id()).isEqualTo(newCustomer.id());
+        assertThat(updatedCustomer.firstName()).isEqualTo("Jane");
+        assertThat(updatedCustomer.email()).isEqualTo("janedoe@example.com");
+    }
+
+    @Test
+    @Order(4)
+    void givenUnknownCustomerId_whenUpdate_thenNotFoundExceptionIsSignalled() {
+        var unknownCustomerId = -1L;
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> blockChecked(reactiveCustomerService.update(unknownCustomerId, TestHelpers.getValidCustomerData())))
+                .withMessage(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId));
+    }
+
+    @Test
+    @Order(5)
+    void givenExistingCustomer_whenDeleteById_thenCustomerIsNotFound() {
+        var newCustomer = reactiveCustomerService.create(TestHelpers.getValidCustomerData()).block();
+
+        assertThat(newCustomer).isNotNull();
+
+        reactiveCustomerService.deleteById(newCustomer.id()).block();
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> blockChecked(reactiveCustomerService.findById(newCustomer.id())));
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> blockChecked(reactiveCustomerService.deleteById(newCustomer.id())));
+    }
+
+    /**
+     * IDs are handed out from blocks reserved from customer_seq, concurrent creations must still get unique IDs.
+     */
+    @Test
+    @Order(6)
+    void givenConcurrentCreations_whenCreate_thenAllIdsAreUnique() {
+        var ids = Flux.range(0, 120)
+                .flatMap(i -> reactiveCustomerService.create(TestHelpers.getValidCustomerData()), 16)
+                .map(CustomerDto::id)
+                .collectList()
+                .block();
+
+        assertThat(ids).hasSize(120).doesNotHaveDuplicates();
+    }
+
+    /*
+     * Mono.block() wraps checked exceptions, this unwraps them again for the exception assertions.
+     */
+    private static <T> T blockChecked(Mono<T> mono) throws Exception {
+        try {
+            return mono.block();
+        } catch (RuntimeException ex) {
+            var cause = Exceptions.unwrap(ex);
+
+            if (cause instanceof Exception checkedException) throw checkedException;
+
+            throw ex;
+        }
+    }
+}
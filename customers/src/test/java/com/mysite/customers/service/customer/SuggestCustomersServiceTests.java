@@ -0,0 +1,159 @@
+package com.mysite.customers.service.customer;
+
+import com.mysite.customers.TestHelpers;
+import com.mysite.customers.dto.CustomerDataDto;
+import com.mysite.customers.dto.CustomerNameSuggestionDto;
+import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
+import com.mysite.customers.exception.ValidationException;
+import com.mysite.customers.service.ICustomerService;
+import com.mysite.customers.service.index.CustomerNameIndex;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link ICustomerService#suggest(String, Integer)}.
+ * Names used in these tests are unique to them, because other tests share the same database.
+ * Deleted customers are kept in the name index for a short time only, so the tests do not have to wait long for their removal.
+ */
+@SpringBootTest(properties = "customers.suggest.deleted-retention=200ms")
+public class SuggestCustomersServiceTests {
+
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private CustomerNameIndex nameIndex;
+
+    @Test
+    @Order(1)
+    void givenCustomers_whenSuggest_thenCustomersWithMatchingFirstOrLastNameAreReturned() throws ValidationException {
+        var firstCustomer = customerService.create(new CustomerDataDto("Quenby", "Doe", "johndoe@example.com"));
+        var secondCustomer = customerService.create(new CustomerDataDto("John", "Quennell", "johndoe@example.com"));
+        customerService.create(new CustomerDataDto("Quinn", "Doe", "johndoe@example.com"));
+
+        var suggestions = customerService.suggest("QUEN", null);
+
+        assertThat(suggestions).containsExactly(
+                new CustomerNameSuggestionDto(firstCustomer.id(), firstCustomer.firstName(), firstCustomer.lastName()),
+                new CustomerNameSuggestionDto(secondCustomer.id(), secondCustomer.firstName(), secondCustomer.lastName()));
+    }
+
+    @Test
+    @Order(2)
+    void givenMoreMatchesThanLimit_whenSuggest_thenOnlyLimitSuggestionsAreReturned() throws ValidationException {
+        for (int i = 0; i < 3; i++) {
+            customerService.create(new CustomerDataDto("Xanthippe", "Doe", "johndoe@example.com"));
+        }
+
+        assertThat(customerService.suggest("xanth", 2)).hasSize(2);
+    }
+
+    @Test
+    @Order(3)
+    void givenUpdatedAndDeletedCustomers_whenSuggest_thenIndexReflectsChanges() throws ValidationException, NotFoundException, PreconditionFailedException {
+        var updatedCustomer = customerService.create(new CustomerDataDto("Ygritte", "Doe", "johndoe@example.com"));
+        var deletedCustomer = customerService.create(new CustomerDataDto("Ygraine", "Doe", "johndoe@example.com"));
+
+        customerService.update(updatedCustomer.id(), new CustomerDataDto("Wystan", "Doe", "johndoe@example.com"), null);
+        customerService.deleteById(deletedCustomer.id(), null);
+
+        assertThat(customerService.suggest("yg", null)).isEmpty();
+        assertThat(customerService.suggest("wystan", null))
+                .containsExactly(new CustomerNameSuggestionDto(updatedCustomer.id(), "Wystan", "Doe"));
+    }
+
+    @Test
+    @Order(4)
+    void givenBatchCreatedCustomers_whenSuggest_thenTheyAreIndexed() throws ValidationException {
+        customerService.createBatch(List.of(new CustomerDataDto("Vashti", "Doe", "johndoe@example.com")));
+
+        assertThat(customerService.suggest("vasht", null)).hasSize(1);
+    }
+
+    /**
+     * After-commit callbacks of concurrent transactions can run in any order, an older version must not replace a newer one.
+     * The IDs are not in the customer table, the index is changed directly.
+     */
+    @Test
+    @Order(5)
+    void givenOlderVersionAppliedLast_whenSuggest_thenNewestNamesAreReturned() throws ValidationException {
+        var id = Long.MAX_VALUE - 1;
+
+        nameIndex.put(id, "Zenobia", "Doe", 2);
+        nameIndex.put(id, "Zephyrine", "Doe", 1);
+
+        assertThat(customerService.suggest("zeph", null)).isEmpty();
+        assertThat(customerService.suggest("zenob", null)).containsExactly(new CustomerNameSuggestionDto(id, "Zenobia", "Doe"));
+    }
+
+    @Test
+    @Order(6)
+    void givenDeletedCustomer_whenLateUpdateIsApplied_thenCustomerStaysRemoved() throws ValidationException {
+        var id = Long.MAX_VALUE - 2;
+
+        nameIndex.put(id, "Thomasina", "Doe", 0);
+        nameIndex.remove(id);
+        nameIndex.put(id, "Theodora", "Doe", 1);
+
+        assertThat(customerService.suggest("thomasina", null)).isEmpty();
+        assertThat(customerService.suggest("theodora", null)).isEmpty();
+    }
+
+    @Test
+    @Order(7)
+    void givenConcurrentUpdatesOfSameCustomer_whenSuggest_thenOnlyNewestNamesAreIndexed() throws Exception {
+        var id = Long.MAX_VALUE - 3;
+
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            IntStream.rangeClosed(1, 200)
+                    .forEach(version -> executor.submit(() -> nameIndex.put(id, "Umbrav" + version, "Doe", version)));
+        }
+
+        assertThat(customerService.suggest("umbrav", 50)).containsExactly(new CustomerNameSuggestionDto(id, "Umbrav200", "Doe"));
+    }
+
+    /**
+     * The entry of a deleted customer is removed by a change after the retention, and the memory estimate follows every change.
+     */
+    @Test
+    @Order(8)
+    void givenDeletionOlderThanRetention_whenIndexChanges_thenDeletedCustomerIsRemoved() throws InterruptedException, ValidationException {
+        var id = Long.MAX_VALUE - 4;
+        var memoryBytes = nameIndex.estimateMemoryBytes();
+
+        nameIndex.put(id, "Vespasia", "Doe", 0);
+
+        assertThat(nameIndex.estimateMemoryBytes()).isGreaterThan(memoryBytes);
+
+        nameIndex.remove(id);
+
+        assertThat(nameIndex.estimateMemoryBytes()).isEqualTo(memoryBytes);
+        assertThat(nameIndex.deletedSize()).isPositive();
+
+        Thread.sleep(300);
+        nameIndex.put(Long.MAX_VALUE - 5, "Wilhelmina", "Doe", 0);
+
+        assertThat(nameIndex.deletedSize()).isZero();
+        assertThat(customerService.suggest("vespasia", null)).isEmpty();
+    }
+
+    @Test
+    @Order(9)
+    void givenEmptyQueryAndInvalidLimit_whenSuggest_thenValidationExceptionIsThrown() {
+        var validationException = assertThrows(
+                ValidationException.class,
+                () -> customerService.suggest(" ", 0));
+
+        TestHelpers.hasValidationError(validationException.getErrors(), "q", " ", "Query must have a value.");
+        TestHelpers.hasValidationError(validationException.getErrors(), "limit", "0", "Limit must be between 1 and 50.");
+    }
+}
@@ -5,6 +5,7 @@ import com.mysite.customers.ExpectedPropertyNames;
 import com.mysite.customers.TestHelpers;
 import com.mysite.customers.dto.CustomerDataDto;
 import com.mysite.customers.exception.NotFoundException;
+import com.mysite.customers.exception.PreconditionFailedException;
 import com.mysite.customers.exception.ValidationException;
 import com.mysite.customers.service.ICustomerService;
 import org.junit.jupiter.api.Order;
@@ -16,7 +17,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
- * Test cases for {@link ICustomerService#update(Long, CustomerDataDto)}.
+ * Test cases for {@link ICustomerService#update(long, CustomerDataDto, Long)}.
  */
 @SpringBootTest
 public class UpdateCustomerServiceTests {
@@ -30,12 +31,12 @@ public class UpdateCustomerServiceTests {
      */
     @Test
     @Order(1)
-    void givenNewValidCustomerData_whenUpdate_thenCustomerDataIsUpdated() throws ValidationException, NotFoundException {
+    void givenNewValidCustomerData_whenUpdate_thenCustomerDataIsUpdated() throws ValidationException, NotFoundException, PreconditionFailedException {
         var newCustomer = customerService.create(TestHelpers.getValidCustomerData());
 
         assertThat(newCustomer).isNotNull();
 
-        var updatedCustomer = customerService.update(newCustomer.id(), new CustomerDataDto(newCustomer.firstName(), "new" + newCustomer.lastName(), "new" + newCustomer.email()));
+        var updatedCustomer = customerService.update(newCustomer.id(), new CustomerDataDto(newCustomer.firstName(), "new" + newCustomer.lastName(), "new" + newCustomer.email()), null);
 
         assertThat(updatedCustomer).isNotNull();
 
@@ -55,7 +56,7 @@ public class UpdateCustomerServiceTests {
         var unknownCustomerId = -1L;
 
         assertThatExceptionOfType(NotFoundException.class)
-                .isThrownBy(() -> customerService.update(unknownCustomerId, TestHelpers.getValidCustomerData()))
+                .isThrownBy(() -> customerService.update(unknownCustomerId, TestHelpers.getValidCustomerData(), null))
                 .withMessage(TestHelpers.getNotFoundExceptionMessage(unknownCustomerId));
     }
 
@@ -70,7 +71,7 @@ public class UpdateCustomerServiceTests {
 
         var validationException = assertThrows(
                 ValidationException.class,
-                () -> customerService.update(1L, newCustomerData));
+                () -> customerService.update(1L, newCustomerData, null));
 
         assertThat(validationException).isNotNull();
 
@@ -93,7 +94,7 @@ public class UpdateCustomerServiceTests {
 
         var validationException = assertThrows(
                 ValidationException.class,
-                () -> customerService.update(1L, newCustomerData));
+                () -> customerService.update(1L, newCustomerData, null));
 
         assertThat(validationException).isNotNull();
 
@@ -116,7 +117,7 @@ public class UpdateCustomerServiceTests {
 
         var validationException = assertThrows(
                 ValidationException.class,
-                () -> customerService.update(1L, newCustomerData));
+                () -> customerService.update(1L, newCustomerData, null));
 
         assertThat(validationException).isNotNull();
 
@@ -139,7 +140,7 @@ public class UpdateCustomerServiceTests {
 
         var validationException = assertThrows(
                 ValidationException.class,
-                () -> customerService.update(1L, newCustomerData));
+                () -> customerService.update(1L, newCustomerData, null));
 
         assertThat(validationException).isNotNull();
 
@@ -167,7 +168,7 @@ public class UpdateCustomerServiceTests {
 
             var validationException = assertThrows(
                     ValidationException.class,
-                    () -> customerService.update(1L, newCustomerData));
+                    () -> customerService.update(1L, newCustomerData, null));
 
             assertThat(validationException).isNotNull();
 
@@ -183,6 +184,6 @@ public class UpdateCustomerServiceTests {
     @Order(8)
     void givenNullCustomerData_whenUpdate_thenIllegalArgumentExceptionIsThrown() {
         assertThatExceptionOfType(IllegalArgumentException.class)
-                .isThrownBy(() -> customerService.update(1L, null));
+                .isThrownBy(() -> customerService.update(1L, null, null));
     }
 }